@@ -0,0 +1,76 @@
+package me.tigerhix.lib.scoreboard.benchmark;
+
+import me.tigerhix.lib.scoreboard.common.Strings;
+import me.tigerhix.lib.scoreboard.common.animate.Animation;
+import me.tigerhix.lib.scoreboard.common.animate.FrameAnimatedString;
+import me.tigerhix.lib.scoreboard.common.animate.HighlightedString;
+import me.tigerhix.lib.scoreboard.common.animate.ScrollableString;
+import me.tigerhix.lib.scoreboard.common.animate.StaticString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures advancing each kind of animated string by one frame.
+ *
+ * @author TigerHix
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimationBenchmark {
+
+    private ScrollableString scrollable;
+    private HighlightedString highlighted;
+    private FrameAnimatedString frames;
+    private StaticString still;
+    private Animation animation;
+    private long tick;
+
+    @Setup
+    public void setup() {
+        scrollable = new ScrollableString(Strings.format("&aThis string is scrollable, and rather long too!"), 32, 4);
+        highlighted = new HighlightedString("This string is highlighted!", "&6", "&e");
+        frames = new FrameAnimatedString("&aOne", "&bTwo", "&cThree", "&dFour");
+        still = new StaticString("&7Nothing moves here");
+        animation = Animation.of(highlighted, 28, 2);
+    }
+
+    @Benchmark
+    public String scrollable() {
+        return scrollable.next();
+    }
+
+    @Benchmark
+    public String highlighted() {
+        return highlighted.next();
+    }
+
+    @Benchmark
+    public String frameAnimated() {
+        return frames.next();
+    }
+
+    @Benchmark
+    public String staticString() {
+        return still.next();
+    }
+
+    @Benchmark
+    public String animation() {
+        return animation.getFrame(tick++);
+    }
+
+}
@@ -0,0 +1,64 @@
+package me.tigerhix.lib.scoreboard.benchmark;
+
+import me.tigerhix.lib.scoreboard.render.ScoreboardRenderer;
+
+/**
+ * An in-memory stand-in for the Bukkit scoreboard API which only counts the operations it receives, so benchmarks
+ * measure the library and not the renderer.
+ *
+ * @author TigerHix
+ */
+public class CountingRenderer implements ScoreboardRenderer {
+
+    private int operations;
+
+    @Override
+    public void show() {
+        operations++;
+    }
+
+    @Override
+    public void hide() {
+        operations++;
+    }
+
+    @Override
+    public void setTitle(String title) {
+        operations++;
+    }
+
+    @Override
+    public void setScore(String entry, int score) {
+        operations++;
+    }
+
+    @Override
+    public void resetScore(String entry) {
+        operations++;
+    }
+
+    @Override
+    public void createTeam(String team, String prefix, String suffix) {
+        operations++;
+    }
+
+    @Override
+    public void removeTeam(String team) {
+        operations++;
+    }
+
+    @Override
+    public void addTeamEntry(String team, String entry) {
+        operations++;
+    }
+
+    @Override
+    public void removeTeamEntry(String team, String entry) {
+        operations++;
+    }
+
+    public int getOperations() {
+        return operations;
+    }
+
+}
@@ -0,0 +1,78 @@
+package me.tigerhix.lib.scoreboard.benchmark;
+
+import me.tigerhix.lib.scoreboard.common.EntryBuilder;
+import me.tigerhix.lib.scoreboard.common.LineTemplate;
+import me.tigerhix.lib.scoreboard.type.Entry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a full sidebar with a new {@link EntryBuilder}, a reused one, and a reused one filled from templates.
+ *
+ * @author TigerHix
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntryBuilderBenchmark {
+
+    private static final int LINES = 15;
+
+    private final EntryBuilder reused = new EntryBuilder();
+    private final LineTemplate.Line[] templateLines = new LineTemplate.Line[LINES];
+
+    private long tick;
+
+    @Setup
+    public void setup() {
+        LineTemplate template = LineTemplate.compile("&7Stat {index}: &f{value}");
+        for (int index = 0; index < LINES; index++) {
+            templateLines[index] = template.newLine().set(0, index);
+        }
+    }
+
+    @Benchmark
+    public List<Entry> newBuilder() {
+        EntryBuilder builder = new EntryBuilder();
+        tick++;
+        for (int index = 0; index < LINES; index++) {
+            builder.next("&7Stat " + index + ": &f" + tick);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public List<Entry> reusedBuilder() {
+        reused.reset();
+        tick++;
+        for (int index = 0; index < LINES; index++) {
+            reused.next("&7Stat " + index + ": &f" + tick);
+        }
+        return reused.buildView();
+    }
+
+    @Benchmark
+    public List<Entry> templates() {
+        reused.reset();
+        tick++;
+        for (int index = 0; index < LINES; index++) {
+            reused.next(templateLines[index].set(1, tick));
+        }
+        return reused.buildView();
+    }
+
+}
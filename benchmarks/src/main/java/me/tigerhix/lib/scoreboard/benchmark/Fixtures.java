@@ -0,0 +1,103 @@
+package me.tigerhix.lib.scoreboard.benchmark;
+
+import me.tigerhix.lib.scoreboard.type.Entry;
+import me.tigerhix.lib.scoreboard.type.ScoreboardHandler;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Fake players and handlers shared by the benchmarks.
+ *
+ * @author TigerHix
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * Create a player that is always online, with a unique id derived from its name, and answers nothing else.
+     *
+     * @param name name
+     * @return player
+     */
+    public static Player player(final String name) {
+        final UUID id = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        return (Player) Proxy.newProxyInstance(Fixtures.class.getClassLoader(), new Class<?>[]{Player.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                switch (method.getName()) {
+                    case "isOnline":
+                        return Boolean.TRUE;
+                    case "getName":
+                        return name;
+                    case "getUniqueId":
+                        return id;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    case "toString":
+                        return "Player{" + name + "}";
+                    default:
+                        return null;
+                }
+            }
+        });
+    }
+
+    /**
+     * Parse command line arguments of the form {@code key=value}.
+     *
+     * @param args arguments
+     * @return values by key
+     */
+    public static Map<String, String> arguments(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (split < 0) throw new IllegalArgumentException("Expected key=value: " + arg);
+            values.put(arg.substring(0, split), arg.substring(split + 1));
+        }
+        return values;
+    }
+
+    static String get(Map<String, String> arguments, String key, String def) {
+        String value = arguments.get(key);
+        return value == null ? def : value;
+    }
+
+    /**
+     * A handler returning whatever title and entries were set last.
+     */
+    public static class MutableHandler implements ScoreboardHandler {
+
+        private String title;
+        private List<Entry> entries;
+
+        public void set(String title, List<Entry> entries) {
+            this.title = title;
+            this.entries = entries;
+        }
+
+        @Override
+        public String getTitle(Player player) {
+            return title;
+        }
+
+        @Override
+        public List<Entry> getEntries(Player player) {
+            return entries;
+        }
+
+    }
+
+}
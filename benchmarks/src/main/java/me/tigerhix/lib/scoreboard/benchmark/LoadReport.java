@@ -0,0 +1,65 @@
+package me.tigerhix.lib.scoreboard.benchmark;
+
+import me.tigerhix.lib.scoreboard.metrics.LatencyHistogram;
+
+import java.io.PrintStream;
+
+/**
+ * Collects operations per tick, tick time and heap growth of a simulated or replayed run.
+ *
+ * @author TigerHix
+ */
+public class LoadReport {
+
+    private final LatencyHistogram tickTime = new LatencyHistogram();
+
+    private long ticks;
+    private long operations;
+    private long maxOperations;
+    private long heapBefore;
+    private long heapAfter;
+
+    /**
+     * Remember the heap in use before the run.
+     */
+    public void start() {
+        heapBefore = usedHeap();
+    }
+
+    /**
+     * Record a tick.
+     *
+     * @param nanos      tick time
+     * @param operations operations sent during the tick
+     */
+    public void tick(long nanos, long operations) {
+        ticks++;
+        tickTime.record(nanos);
+        this.operations += operations;
+        if (operations > maxOperations) maxOperations = operations;
+    }
+
+    /**
+     * Measure the heap in use after the run. Whatever the run still references counts as growth.
+     */
+    public void finish() {
+        heapAfter = usedHeap();
+    }
+
+    public void print(PrintStream out) {
+        out.println("ticks            " + ticks);
+        out.println("operations       " + operations);
+        out.printf("ops/tick         mean %.1f, max %d%n", ticks == 0 ? 0.0 : (double) operations / ticks, maxOperations);
+        out.printf("tick time (ms)   mean %.3f, p99 %.3f, max %.3f%n", tickTime.getMeanNanos() / 1e6, tickTime.getPercentileNanos(99) / 1e6, tickTime.getMaxNanos() / 1e6);
+        out.printf("heap growth (MB) %.2f%n", (heapAfter - heapBefore) / (1024.0 * 1024.0));
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,153 @@
+package me.tigerhix.lib.scoreboard.benchmark;
+
+import me.tigerhix.lib.scoreboard.ScoreboardLib;
+import me.tigerhix.lib.scoreboard.ScoreboardScheduler;
+import me.tigerhix.lib.scoreboard.common.EntryBuilder;
+import me.tigerhix.lib.scoreboard.common.SplitCache;
+import me.tigerhix.lib.scoreboard.common.Strings;
+import me.tigerhix.lib.scoreboard.common.animate.HighlightedString;
+import me.tigerhix.lib.scoreboard.common.animate.ScrollableString;
+import me.tigerhix.lib.scoreboard.type.Entry;
+import me.tigerhix.lib.scoreboard.type.Scoreboard;
+import me.tigerhix.lib.scoreboard.type.ScoreboardHandler;
+import org.bukkit.entity.Player;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs thousands of scoreboards for fake players on a simulated tick loop, recording every operation into a trace
+ * that {@link TraceReplayer} can replay. Arguments, all optional:
+ * <ul>
+ * <li>{@code players=2000} amount of players</li>
+ * <li>{@code ticks=1200} amount of ticks to simulate</li>
+ * <li>{@code static=1 timer=1 scroll=1} weights of the handler kinds handed out to the players</li>
+ * <li>{@code interval=10} update interval</li>
+ * <li>{@code trace=scoreboard.trace} trace file</li>
+ * </ul>
+ *
+ * @author TigerHix
+ */
+public final class LoadSimulator {
+
+    private LoadSimulator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> arguments = Fixtures.arguments(args);
+        int players = Integer.parseInt(Fixtures.get(arguments, "players", "2000"));
+        long ticks = Long.parseLong(Fixtures.get(arguments, "ticks", "1200"));
+        int staticWeight = Integer.parseInt(Fixtures.get(arguments, "static", "1"));
+        int timerWeight = Integer.parseInt(Fixtures.get(arguments, "timer", "1"));
+        int scrollWeight = Integer.parseInt(Fixtures.get(arguments, "scroll", "1"));
+        long interval = Long.parseLong(Fixtures.get(arguments, "interval", "10"));
+        String path = Fixtures.get(arguments, "trace", "scoreboard.trace");
+        int totalWeight = staticWeight + timerWeight + scrollWeight;
+        if (totalWeight <= 0) throw new IllegalArgumentException("At least one handler kind needs a weight");
+
+        ScoreboardScheduler scheduler = ScoreboardLib.getScheduler();
+        scheduler.setManualTicking(true);
+        scheduler.setLoadScaling(false);
+        LoadReport report = new LoadReport();
+        List<Scoreboard> scoreboards = new ArrayList<>(players);
+        try (TraceWriter trace = new TraceWriter(Paths.get(path))) {
+            report.start();
+            trace.tick(scheduler.getCurrentTick());
+            long start = System.nanoTime();
+            for (int index = 0; index < players; index++) {
+                Player player = Fixtures.player("Player" + index);
+                // Hand out the handler kinds by their weights
+                int slot = index % totalWeight;
+                ScoreboardHandler handler = slot < staticWeight ? new StaticHandler() : slot < staticWeight + timerWeight ? new TimerHandler() : new ScrollHandler();
+                Scoreboard scoreboard = ScoreboardLib.createScoreboard(player, new TraceRenderer(trace, index))
+                        .setHandler(handler)
+                        .setUpdateInterval(interval);
+                scoreboard.activate();
+                scoreboards.add(scoreboard);
+            }
+            long joinNanos = System.nanoTime() - start;
+            for (long tick = 0; tick < ticks; tick++) {
+                start = System.nanoTime();
+                scheduler.advance();
+                long nanos = System.nanoTime() - start;
+                report.tick(nanos, trace.tick(scheduler.getCurrentTick()));
+            }
+            for (Scoreboard scoreboard : scoreboards) {
+                scoreboard.deactivate();
+            }
+            report.finish();
+            System.out.printf("joined %d players in %.1f ms%n", players, joinNanos / 1e6);
+            report.print(System.out);
+            SplitCache splitCache = ScoreboardLib.getSplitCache();
+            System.out.printf("split cache      %d lines, hit rate %.1f%%%n", splitCache.getSize(), splitCache.getHitRate() * 100);
+            System.out.println("trace written to " + path + " (" + trace.getOperations() + " operations)");
+        }
+        scheduler.setManualTicking(false);
+    }
+
+    private static class StaticHandler implements ScoreboardHandler {
+
+        @Override
+        public String getTitle(Player player) {
+            return "&6&lSERVER";
+        }
+
+        @Override
+        public List<Entry> getEntries(Player player) {
+            return new EntryBuilder()
+                    .blank()
+                    .next("&7Name: &f" + player.getName())
+                    .next("&7Rank: &aMember")
+                    .blank()
+                    .next("&eplay.example.com")
+                    .build();
+        }
+
+    }
+
+    private static class TimerHandler implements ScoreboardHandler {
+
+        @Override
+        public String getTitle(Player player) {
+            return "&c&lGAME";
+        }
+
+        @Override
+        public List<Entry> getEntries(Player player) {
+            long seconds = 600 - ScoreboardLib.getScheduler().getCurrentTick() / 20 % 600;
+            return new EntryBuilder()
+                    .blank()
+                    .next("&7Time left: &f" + seconds / 60 + ":" + String.format("%02d", seconds % 60))
+                    .next("&7Kills: &f" + seconds % 7)
+                    .next("&7This is a line long enough to need a team")
+                    .blank()
+                    .build();
+        }
+
+    }
+
+    private static class ScrollHandler implements ScoreboardHandler {
+
+        private final ScrollableString scroll = new ScrollableString(Strings.format("&aWelcome to the server, have fun playing!"), 24, 4);
+        private final HighlightedString highlighted = new HighlightedString("Highlighted text!", "&6", "&e");
+
+        @Override
+        public String getTitle(Player player) {
+            return highlighted.next();
+        }
+
+        @Override
+        public List<Entry> getEntries(Player player) {
+            return new EntryBuilder()
+                    .next("    " + scroll.next())
+                    .blank()
+                    .next("&7Online: &f" + player.getName().length())
+                    .build();
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package me.tigerhix.lib.scoreboard.benchmark;
+
+import me.tigerhix.lib.scoreboard.common.Strings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Strings#format(String)} and {@link Strings#repeat(String, int)}.
+ *
+ * @author TigerHix
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringsBenchmark {
+
+    public String plain = "A line without any colour codes at all";
+    public String coloured = "&a&lKills: &f12 &7| &c&lDeaths: &f3 &7| &eK/D";
+    public String space = " ";
+    public String pattern = "-=";
+
+    @Benchmark
+    public String formatPlain() {
+        return Strings.format(plain);
+    }
+
+    @Benchmark
+    public String formatColoured() {
+        return Strings.format(coloured);
+    }
+
+    @Benchmark
+    public String repeatShort() {
+        return Strings.repeat(space, 3);
+    }
+
+    @Benchmark
+    public String repeatLong() {
+        return Strings.repeat(pattern, 24);
+    }
+
+}
@@ -0,0 +1,102 @@
+package me.tigerhix.lib.scoreboard.benchmark;
+
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.Table;
+import org.bukkit.ChatColor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures resolving the team of a long line among the given amount of live teams, through a prefix and suffix table
+ * like the one scoreboards keep, and through a scan over every team like before that table existed.
+ * <p>
+ * A scoreboard unregisters the teams its lines no longer use, so it never holds more teams than lines, and a full update
+ * of a board with long lines is measured by {@link UpdateBenchmark}. This benchmark holds the teams of many lines at once
+ * to show the cost of a lookup staying flat as the team count grows.
+ *
+ * @author TigerHix
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamResolutionBenchmark {
+
+    @Param({"16", "256", "2048"})
+    public int teams;
+
+    private final Table<String, String, LiveTeam> table = HashBasedTable.create();
+    private final List<LiveTeam> list = new ArrayList<>();
+
+    private String[] prefixes;
+    private String[] suffixes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        prefixes = new String[teams];
+        suffixes = new String[teams];
+        for (int index = 0; index < teams; index++) {
+            // Affixes as split off lines of the form "&a000042 &7line number 000042"
+            prefixes[index] = ChatColor.GREEN + String.format("%06d ", index) + ChatColor.GRAY;
+            suffixes[index] = String.format("%06d", index);
+            LiveTeam team = new LiveTeam(prefixes[index], suffixes[index]);
+            table.put(team.prefix, team.suffix, team);
+            list.add(team);
+        }
+    }
+
+    @Benchmark
+    public LiveTeam indexed() {
+        int index = advance();
+        return table.get(prefixes[index], suffixes[index]);
+    }
+
+    @Benchmark
+    public LiveTeam scanned() {
+        int index = advance();
+        String prefix = prefixes[index];
+        String suffix = suffixes[index];
+        for (LiveTeam team : list) {
+            if (team.prefix.equals(prefix) && team.suffix.equals(suffix)) return team;
+        }
+        return null;
+    }
+
+    private int advance() {
+        // Look up every team in turn
+        next = next + 1 == teams ? 0 : next + 1;
+        return next;
+    }
+
+    /**
+     * A team as a scoreboard remembers it.
+     */
+    public static class LiveTeam {
+
+        private final String prefix;
+        private final String suffix;
+
+        LiveTeam(String prefix, String suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package me.tigerhix.lib.scoreboard.benchmark;
+
+import me.tigerhix.lib.scoreboard.render.ScoreboardRenderer;
+
+/**
+ * Records the operations of one scoreboard into a trace.
+ *
+ * @author TigerHix
+ */
+public class TraceRenderer implements ScoreboardRenderer {
+
+    private final TraceWriter trace;
+    private final int board;
+
+    public TraceRenderer(TraceWriter trace, int board) {
+        this.trace = trace;
+        this.board = board;
+    }
+
+    @Override
+    public void show() {
+        trace.write(board, "show");
+    }
+
+    @Override
+    public void hide() {
+        trace.write(board, "hide");
+    }
+
+    @Override
+    public void setTitle(String title) {
+        trace.write(board, "setTitle", title);
+    }
+
+    @Override
+    public void setScore(String entry, int score) {
+        trace.write(board, "setScore", entry, Integer.toString(score));
+    }
+
+    @Override
+    public void resetScore(String entry) {
+        trace.write(board, "resetScore", entry);
+    }
+
+    @Override
+    public void createTeam(String team, String prefix, String suffix) {
+        trace.write(board, "createTeam", team, prefix, suffix);
+    }
+
+    @Override
+    public void removeTeam(String team) {
+        trace.write(board, "removeTeam", team);
+    }
+
+    @Override
+    public void addTeamEntry(String team, String entry) {
+        trace.write(board, "addTeamEntry", team, entry);
+    }
+
+    @Override
+    public void removeTeamEntry(String team, String entry) {
+        trace.write(board, "removeTeamEntry", team, entry);
+    }
+
+}
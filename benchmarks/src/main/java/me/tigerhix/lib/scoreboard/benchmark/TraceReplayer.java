@@ -0,0 +1,111 @@
+package me.tigerhix.lib.scoreboard.benchmark;
+
+import me.tigerhix.lib.scoreboard.render.ScoreboardRenderer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays a trace recorded by {@link LoadSimulator} against any {@link ScoreboardRenderer} with a public no-argument
+ * constructor, one renderer per recorded scoreboard, and reports operations per tick, tick time and heap growth.
+ * Arguments:
+ * <ul>
+ * <li>{@code trace=scoreboard.trace} trace file</li>
+ * <li>{@code renderer=me.tigerhix.lib.scoreboard.benchmark.CountingRenderer} renderer class</li>
+ * </ul>
+ *
+ * @author TigerHix
+ */
+public final class TraceReplayer {
+
+    private TraceReplayer() {
+    }
+
+    public static void main(String[] args) throws IOException, ReflectiveOperationException {
+        Map<String, String> arguments = Fixtures.arguments(args);
+        String path = Fixtures.get(arguments, "trace", "scoreboard.trace");
+        Class<? extends ScoreboardRenderer> type = Class.forName(Fixtures.get(arguments, "renderer", CountingRenderer.class.getName())).asSubclass(ScoreboardRenderer.class);
+
+        // Parse the whole trace up front, so reading the file is not part of the tick time
+        List<List<String[]>> ticks = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(path), TraceWriter.CHARSET)) {
+            String line = reader.readLine();
+            if (!TraceWriter.HEADER.equals(line)) throw new IOException("Not a scoreboard trace: " + path);
+            List<String[]> tick = new ArrayList<>();
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("T\t")) {
+                    ticks.add(tick);
+                    tick = new ArrayList<>();
+                    continue;
+                }
+                String[] operation = line.split("\t", -1);
+                for (int i = 2; i < operation.length; i++) {
+                    operation[i] = TraceWriter.unescape(operation[i]);
+                }
+                tick.add(operation);
+            }
+            ticks.add(tick);
+        }
+
+        Map<String, ScoreboardRenderer> renderers = new HashMap<>();
+        LoadReport report = new LoadReport();
+        report.start();
+        for (List<String[]> tick : ticks) {
+            long start = System.nanoTime();
+            for (String[] operation : tick) {
+                ScoreboardRenderer renderer = renderers.get(operation[0]);
+                if (renderer == null) {
+                    renderer = type.newInstance();
+                    renderers.put(operation[0], renderer);
+                }
+                apply(renderer, operation);
+            }
+            report.tick(System.nanoTime() - start, tick.size());
+        }
+        report.finish();
+        System.out.println("replayed " + renderers.size() + " scoreboards against " + type.getName());
+        report.print(System.out);
+    }
+
+    private static void apply(ScoreboardRenderer renderer, String[] operation) {
+        switch (operation[1]) {
+            case "show":
+                renderer.show();
+                break;
+            case "hide":
+                renderer.hide();
+                break;
+            case "setTitle":
+                renderer.setTitle(operation[2]);
+                break;
+            case "setScore":
+                renderer.setScore(operation[2], Integer.parseInt(operation[3]));
+                break;
+            case "resetScore":
+                renderer.resetScore(operation[2]);
+                break;
+            case "createTeam":
+                renderer.createTeam(operation[2], operation[3], operation[4]);
+                break;
+            case "removeTeam":
+                renderer.removeTeam(operation[2]);
+                break;
+            case "addTeamEntry":
+                renderer.addTeamEntry(operation[2], operation[3]);
+                break;
+            case "removeTeamEntry":
+                renderer.removeTeamEntry(operation[2], operation[3]);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown operation: " + Arrays.toString(operation));
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package me.tigerhix.lib.scoreboard.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes scoreboard operations to a trace file, one operation per line. A tick starts with a line
+ * {@code T<tab>tick}; an operation is written as {@code board<tab>operation<tab>arguments...}, with tabs, line breaks
+ * and backslashes in arguments escaped by a backslash.
+ *
+ * @author TigerHix
+ */
+public class TraceWriter implements Closeable {
+
+    static final String HEADER = "# ScoreboardLib trace 1";
+    static final Charset CHARSET = Charset.forName("UTF-8");
+
+    private final Writer writer;
+
+    private long operations;
+    private long tickOperations;
+
+    public TraceWriter(Path path) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(path), CHARSET), 1 << 16);
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    /**
+     * Start a new tick, returning the amount of operations written during the last one.
+     *
+     * @param tick tick
+     * @return operations of the last tick
+     */
+    public long tick(long tick) {
+        long last = tickOperations;
+        tickOperations = 0;
+        try {
+            writer.write("T\t");
+            writer.write(Long.toString(tick));
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to write trace", ex);
+        }
+        return last;
+    }
+
+    /**
+     * Write an operation of the given board.
+     *
+     * @param board     board
+     * @param operation operation
+     * @param arguments arguments
+     */
+    public void write(int board, String operation, String... arguments) {
+        operations++;
+        tickOperations++;
+        try {
+            writer.write(Integer.toString(board));
+            writer.write('\t');
+            writer.write(operation);
+            for (String argument : arguments) {
+                writer.write('\t');
+                escape(argument);
+            }
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to write trace", ex);
+        }
+    }
+
+    public long getOperations() {
+        return operations;
+    }
+
+    private void escape(String argument) throws IOException {
+        for (int i = 0; i < argument.length(); i++) {
+            char c = argument.charAt(i);
+            switch (c) {
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                default:
+                    writer.write(c);
+            }
+        }
+    }
+
+    static String unescape(String argument) {
+        if (argument.indexOf('\\') < 0) return argument;
+        StringBuilder builder = new StringBuilder(argument.length());
+        for (int i = 0; i < argument.length(); i++) {
+            char c = argument.charAt(i);
+            if (c == '\\' && i + 1 < argument.length()) {
+                c = argument.charAt(++i);
+                if (c == 't') c = '\t';
+                else if (c == 'n') c = '\n';
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+}
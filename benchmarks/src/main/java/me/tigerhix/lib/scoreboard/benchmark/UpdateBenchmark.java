@@ -0,0 +1,89 @@
+package me.tigerhix.lib.scoreboard.benchmark;
+
+import me.tigerhix.lib.scoreboard.type.Entry;
+import me.tigerhix.lib.scoreboard.type.SimpleScoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SimpleScoreboard#update()} for a full sidebar of 15 lines, alternating between two frames which
+ * differ in the given amount of lines.
+ *
+ * @author TigerHix
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateBenchmark {
+
+    private static final int LINES = 15;
+
+    @Param({"SHORT", "LONG", "DUPLICATE"})
+    public String lines;
+
+    @Param({"0", "1", "15"})
+    public int changedLines;
+
+    private final Fixtures.MutableHandler handler = new Fixtures.MutableHandler();
+    private final CountingRenderer renderer = new CountingRenderer();
+
+    private SimpleScoreboard scoreboard;
+    private List<Entry> first;
+    private List<Entry> second;
+    private boolean flip;
+
+    @Setup
+    public void setup() {
+        first = frame(0);
+        second = frame(changedLines);
+        scoreboard = new SimpleScoreboard(Fixtures.player("Steve"), renderer);
+        scoreboard.setHandler(handler);
+        handler.set("&6&lBenchmark", first);
+        scoreboard.update();
+    }
+
+    @Benchmark
+    public int update() {
+        flip = !flip;
+        handler.set("&6&lBenchmark", flip ? second : first);
+        scoreboard.update();
+        return renderer.getOperations();
+    }
+
+    private List<Entry> frame(int changed) {
+        List<Entry> entries = new ArrayList<>(LINES);
+        for (int index = 0; index < LINES; index++) {
+            entries.add(new Entry(line(index, index < changed), LINES - index));
+        }
+        return entries;
+    }
+
+    private String line(int index, boolean changed) {
+        String mark = changed ? "*" : "";
+        switch (lines) {
+            case "SHORT":
+                return "&7Line " + index + mark;
+            case "LONG":
+                return "&a" + index + " &7a line long enough to need a team" + mark;
+            default:
+                return "&eThe very same line on every row" + mark;
+        }
+    }
+
+}
@@ -1,14 +1,34 @@
 package me.tigerhix.lib.scoreboard;
 
+import me.tigerhix.lib.scoreboard.common.SplitCache;
+import me.tigerhix.lib.scoreboard.metrics.ScoreboardMetrics;
+import me.tigerhix.lib.scoreboard.render.ScoreboardPool;
+import me.tigerhix.lib.scoreboard.render.ScoreboardRenderer;
+import me.tigerhix.lib.scoreboard.render.TeamMirror;
+import me.tigerhix.lib.scoreboard.type.GroupScoreboard;
 import me.tigerhix.lib.scoreboard.type.Scoreboard;
 import me.tigerhix.lib.scoreboard.type.SimpleScoreboard;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.logging.Level;
+
 public final class ScoreboardLib extends JavaPlugin {
 
+    private static final ScoreboardMetrics metrics = new ScoreboardMetrics();
+    private static final ScoreboardScheduler scheduler = new ScoreboardScheduler();
+    private static final ScoreboardRegistry registry = new ScoreboardRegistry();
+    private static final ScoreboardPool scoreboardPool = new ScoreboardPool(64);
+    private static final TeamMirror teamMirror = new TeamMirror();
+    private static final SplitCache splitCache = new SplitCache(4096);
     private static Plugin instance;
+    private static ObjectName metricsName;
 
     public static Plugin getPluginInstance() {
         return instance;
@@ -17,15 +37,107 @@ public final class ScoreboardLib extends JavaPlugin {
     public static void setPluginInstance(Plugin instance) {
         if (ScoreboardLib.instance != null) return;
         ScoreboardLib.instance = instance;
+        // Release scoreboards on quit and disable instead of checking their holders on every update
+        Bukkit.getPluginManager().registerEvents(new ScoreboardListener(), instance);
+        registerMetrics(instance);
+    }
+
+    public static ScoreboardScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public static ScoreboardRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Returns the pool Bukkit scoreboards are taken from by default. It keeps up to 64 unused scoreboards.
+     *
+     * @return scoreboard pool
+     */
+    public static ScoreboardPool getScoreboardPool() {
+        return scoreboardPool;
+    }
+
+    /**
+     * Returns the mirror copying teams of the main scoreboard onto the scoreboards shown by default. It mirrors no team
+     * until told which ones to.
+     *
+     * @return team mirror
+     */
+    public static TeamMirror getTeamMirror() {
+        return teamMirror;
+    }
+
+    /**
+     * Returns the cache of long lines split for display, shared by all scoreboards. It keeps up to 4096 lines.
+     *
+     * @return split cache
+     */
+    public static SplitCache getSplitCache() {
+        return splitCache;
+    }
+
+    /**
+     * Returns the update counters and latencies of all scoreboards together. They are also exposed through JMX, under
+     * me.tigerhix.lib.scoreboard:type=ScoreboardMetrics,plugin=(name of the plugin instance).
+     *
+     * @return metrics
+     */
+    public static ScoreboardMetrics getMetrics() {
+        return metrics;
+    }
+
+    private static void registerMetrics(Plugin instance) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName("me.tigerhix.lib.scoreboard:type=ScoreboardMetrics,plugin=" + ObjectName.quote(instance.getName()));
+            // Replace the registration left behind by a reload
+            if (server.isRegistered(name)) server.unregisterMBean(name);
+            server.registerMBean(metrics, name);
+            metricsName = name;
+        } catch (JMException ex) {
+            instance.getLogger().log(Level.WARNING, "Failed to register scoreboard metrics", ex);
+        }
+    }
+
+    private static void unregisterMetrics() {
+        if (metricsName == null) return;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(metricsName)) server.unregisterMBean(metricsName);
+        } catch (JMException ex) {
+            instance.getLogger().log(Level.WARNING, "Failed to unregister scoreboard metrics", ex);
+        }
+        metricsName = null;
+    }
+
+    static void shutdown() {
+        registry.shutdown();
+        // Do not keep the metrics, and the classes of a reloaded plugin with them, registered
+        unregisterMetrics();
     }
 
     public static Scoreboard createScoreboard(Player holder) {
         return new SimpleScoreboard(holder);
     }
 
+    public static Scoreboard createScoreboard(Player holder, ScoreboardRenderer renderer) {
+        return new SimpleScoreboard(holder, renderer);
+    }
+
+    public static GroupScoreboard createGroupScoreboard() {
+        return new GroupScoreboard();
+    }
+
     @Override
     public void onEnable() {
         setPluginInstance(this);
     }
 
+    @Override
+    public void onDisable() {
+        shutdown();
+    }
+
 }
\ No newline at end of file
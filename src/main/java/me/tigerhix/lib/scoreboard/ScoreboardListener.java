@@ -0,0 +1,27 @@
+package me.tigerhix.lib.scoreboard;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+
+/**
+ * Releases scoreboards when their holder quits, and all of them along with the metrics registration when the plugin
+ * owning the library is disabled.
+ *
+ * @author TigerHix
+ */
+class ScoreboardListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        ScoreboardLib.getRegistry().handleQuit(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(PluginDisableEvent event) {
+        if (event.getPlugin() == ScoreboardLib.getPluginInstance()) ScoreboardLib.shutdown();
+    }
+
+}
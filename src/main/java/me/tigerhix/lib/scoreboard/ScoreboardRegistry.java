@@ -0,0 +1,161 @@
+package me.tigerhix.lib.scoreboard;
+
+import me.tigerhix.lib.scoreboard.type.GroupScoreboard;
+import me.tigerhix.lib.scoreboard.type.Scoreboard;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps track of every activated scoreboard, so they can be looked up by their holder and released as soon as the holder
+ * quits or the plugin is disabled. Scoreboards register themselves when activated.
+ *
+ * @author TigerHix
+ */
+public final class ScoreboardRegistry {
+
+    private final Map<UUID, Scoreboard> scoreboards = new HashMap<>();
+    private final Set<Scoreboard> groups = new LinkedHashSet<>();
+
+    ScoreboardRegistry() {
+    }
+
+    /**
+     * Start tracking an activated scoreboard. A player only sees one scoreboard at a time, so another scoreboard already
+     * activated for the same holder is deactivated. Scoreboards without a holder are tracked as groups.
+     *
+     * @param scoreboard scoreboard
+     * @throws IllegalArgumentException if the holder has no unique id
+     */
+    public void register(Scoreboard scoreboard) {
+        Player holder = scoreboard.getHolder();
+        if (holder == null) {
+            groups.add(scoreboard);
+            return;
+        }
+        UUID id = holder.getUniqueId();
+        if (id == null) throw new IllegalArgumentException("Holder " + holder.getName() + " has no unique id");
+        Scoreboard previous = scoreboards.put(id, scoreboard);
+        if (previous != null && previous != scoreboard) previous.deactivate();
+    }
+
+    /**
+     * Stop tracking a scoreboard.
+     *
+     * @param scoreboard scoreboard
+     */
+    public void unregister(Scoreboard scoreboard) {
+        Player holder = scoreboard.getHolder();
+        if (holder == null) {
+            groups.remove(scoreboard);
+            return;
+        }
+        UUID id = holder.getUniqueId();
+        // Only if it was not replaced in the meantime
+        if (scoreboards.get(id) == scoreboard) scoreboards.remove(id);
+    }
+
+    /**
+     * Returns the activated scoreboard of the player with the given id, or null if there is none.
+     *
+     * @param id player id
+     * @return scoreboard
+     */
+    public Scoreboard getScoreboard(UUID id) {
+        return scoreboards.get(id);
+    }
+
+    /**
+     * Returns the activated scoreboard of the player, or null if there is none.
+     *
+     * @param player player
+     * @return scoreboard
+     */
+    public Scoreboard getScoreboard(Player player) {
+        return scoreboards.get(player.getUniqueId());
+    }
+
+    /**
+     * Returns the activated scoreboards that have a holder.
+     *
+     * @return scoreboards
+     */
+    public Collection<Scoreboard> getScoreboards() {
+        return Collections.unmodifiableCollection(scoreboards.values());
+    }
+
+    /**
+     * Returns the activated scoreboards without a holder, such as group scoreboards.
+     *
+     * @return groups
+     */
+    public Collection<Scoreboard> getGroups() {
+        return Collections.unmodifiableCollection(groups);
+    }
+
+    /**
+     * Returns the amount of activated scoreboards.
+     *
+     * @return count
+     */
+    public int getCount() {
+        return scoreboards.size() + groups.size();
+    }
+
+    /**
+     * Update every activated scoreboard on the next tick.
+     */
+    public void invalidateAll() {
+        ScoreboardScheduler scheduler = ScoreboardLib.getScheduler();
+        for (Scoreboard scoreboard : all()) {
+            scheduler.invalidate(scoreboard);
+        }
+    }
+
+    /**
+     * Change the update interval of every activated scoreboard.
+     *
+     * @param updateInterval update interval
+     */
+    public void setUpdateInterval(long updateInterval) {
+        for (Scoreboard scoreboard : all()) {
+            scoreboard.setUpdateInterval(updateInterval);
+        }
+    }
+
+    /**
+     * Deactivate every scoreboard, removing their teams and giving the players the main scoreboard back.
+     */
+    public void shutdown() {
+        for (Scoreboard scoreboard : all()) {
+            scoreboard.deactivate();
+        }
+        scoreboards.clear();
+        groups.clear();
+    }
+
+    void handleQuit(Player player) {
+        Scoreboard scoreboard = scoreboards.remove(player.getUniqueId());
+        if (scoreboard != null) scoreboard.deactivate();
+        for (Scoreboard group : groups) {
+            if (group instanceof GroupScoreboard) ((GroupScoreboard) group).removeMember(player);
+        }
+    }
+
+    private List<Scoreboard> all() {
+        // Copied, deactivating a scoreboard unregisters it
+        List<Scoreboard> all = new ArrayList<>(scoreboards.size() + groups.size());
+        all.addAll(scoreboards.values());
+        all.addAll(groups);
+        return all;
+    }
+
+}
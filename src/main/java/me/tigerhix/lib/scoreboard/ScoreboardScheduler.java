@@ -0,0 +1,284 @@
+package me.tigerhix.lib.scoreboard;
+
+import me.tigerhix.lib.scoreboard.type.Scoreboard;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Drives every activated scoreboard from a single task, spreading the boards evenly across the ticks of their update interval.
+ *
+ * @author TigerHix
+ */
+public final class ScoreboardScheduler {
+
+    private static final long TICK_NANOS = 50000000L;
+    private static final double MAX_LOAD_FACTOR = 4.0;
+
+    private final Map<Scoreboard, Long> scheduled = new HashMap<>();
+    private final Map<Long, List<Scoreboard>> buckets = new HashMap<>();
+    private final Set<Scoreboard> invalidated = Collections.newSetFromMap(new ConcurrentHashMap<Scoreboard, Boolean>());
+
+    private long currentTick;
+    private int updatedLastTick;
+    private BukkitRunnable task;
+    private long lastTickNanos;
+    private long averageTickNanos = TICK_NANOS;
+    private long tickBudgetNanos = TICK_NANOS;
+    private boolean loadScaling = true;
+    private boolean manual;
+
+    ScoreboardScheduler() {
+    }
+
+    /**
+     * Start updating the scoreboard on its update interval. The first update is placed on the least busy tick of the interval.
+     *
+     * @param scoreboard scoreboard
+     */
+    public void schedule(Scoreboard scoreboard) {
+        long interval = intervalOf(scoreboard);
+        // Find the tick within the interval which has the least boards due
+        long bestTick = currentTick + 1;
+        int bestLoad = Integer.MAX_VALUE;
+        long last = after(currentTick, interval);
+        for (long tick = currentTick + 1; tick <= last; tick++) {
+            List<Scoreboard> bucket = buckets.get(tick);
+            int load = bucket == null ? 0 : bucket.size();
+            if (load < bestLoad) {
+                bestTick = tick;
+                bestLoad = load;
+                if (load == 0) break;
+            }
+        }
+        enqueue(scoreboard, bestTick);
+        start();
+    }
+
+    /**
+     * Update the scoreboard at the given tick if that is earlier than its next regular update. The regular interval
+     * continues from there.
+     *
+     * @param scoreboard scoreboard
+     * @param tick       tick
+     */
+    public void wakeAt(Scoreboard scoreboard, long tick) {
+        Long dueTick = scheduled.get(scoreboard);
+        if (dueTick == null) return;
+        // A scoreboard being updated right now is due again after its interval
+        long next = dueTick <= currentTick ? after(currentTick, intervalOf(scoreboard)) : dueTick;
+        tick = Math.max(tick, currentTick + 1);
+        if (tick < next) enqueue(scoreboard, tick);
+    }
+
+    /**
+     * Update the scoreboard on the next tick, after which its regular interval continues. Can be called from any thread;
+     * invalidating a scoreboard several times within a tick results in a single update.
+     *
+     * @param scoreboard scoreboard
+     */
+    public void invalidate(Scoreboard scoreboard) {
+        invalidated.add(scoreboard);
+    }
+
+    /**
+     * Stop updating the scoreboard.
+     *
+     * @param scoreboard scoreboard
+     */
+    public void unschedule(Scoreboard scoreboard) {
+        // Stale bucket entries are skipped when their tick is reached
+        scheduled.remove(scoreboard);
+    }
+
+    /**
+     * Determine if the scoreboard is currently being updated by this scheduler.
+     *
+     * @param scoreboard scoreboard
+     * @return scheduled
+     */
+    public boolean isScheduled(Scoreboard scoreboard) {
+        return scheduled.containsKey(scoreboard);
+    }
+
+    /**
+     * Returns the amount of scoreboards being updated by this scheduler.
+     *
+     * @return scheduled count
+     */
+    public int getScheduledCount() {
+        return scheduled.size();
+    }
+
+    /**
+     * Returns the amount of scoreboards that were updated on the last tick.
+     *
+     * @return updated count
+     */
+    public int getUpdatedLastTick() {
+        return updatedLastTick;
+    }
+
+    /**
+     * Returns the amount of ticks this scheduler has run for.
+     *
+     * @return current tick
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Returns the measured average duration of a server tick, in milliseconds.
+     *
+     * @return average tick duration
+     */
+    public double getAverageTickMillis() {
+        return averageTickNanos / 1000000.0;
+    }
+
+    /**
+     * Returns the factor all update intervals are currently stretched by, 1 if the server keeps up with its tick budget.
+     *
+     * @return load factor
+     */
+    public double getLoadFactor() {
+        if (!loadScaling || averageTickNanos <= tickBudgetNanos) return 1.0;
+        return Math.min(MAX_LOAD_FACTOR, (double) averageTickNanos / tickBudgetNanos);
+    }
+
+    /**
+     * Set the tick duration above which update intervals are stretched (default = 50ms).
+     *
+     * @param millis tick budget
+     */
+    public void setTickBudget(long millis) {
+        if (millis < 1) throw new IllegalArgumentException("Tick budget must be at least 1ms");
+        this.tickBudgetNanos = millis * 1000000L;
+    }
+
+    /**
+     * Set whether update intervals are stretched while ticks take longer than the tick budget (default = true).
+     *
+     * @param loadScaling load scaling
+     */
+    public void setLoadScaling(boolean loadScaling) {
+        this.loadScaling = loadScaling;
+    }
+
+    /**
+     * Set whether this scheduler is driven by calls to {@link #advance()} instead of a Bukkit task, to simulate a server
+     * without running one (default = false). Can only be changed while no scoreboard is scheduled.
+     *
+     * @param manual manual ticking
+     */
+    public void setManualTicking(boolean manual) {
+        if (!scheduled.isEmpty()) throw new IllegalStateException("Cannot change ticking while scoreboards are scheduled");
+        this.manual = manual;
+        // A task may still be running until its next tick notices nothing is scheduled
+        stop();
+    }
+
+    /**
+     * Run a single tick, updating the scoreboards that are due. Only available with manual ticking.
+     */
+    public void advance() {
+        if (!manual) throw new IllegalStateException("Scheduler is driven by a Bukkit task");
+        tick();
+    }
+
+    private void tick() {
+        currentTick++;
+        // Keep a moving average of the time between two ticks
+        long now = System.nanoTime();
+        if (lastTickNanos != 0) averageTickNanos = (averageTickNanos * 19 + (now - lastTickNanos)) / 20;
+        lastTickNanos = now;
+        // Pull the invalidated scoreboards into this tick
+        if (!invalidated.isEmpty()) {
+            Iterator<Scoreboard> iterator = invalidated.iterator();
+            while (iterator.hasNext()) {
+                Scoreboard scoreboard = iterator.next();
+                iterator.remove();
+                Long dueTick = scheduled.get(scoreboard);
+                if (dueTick != null && dueTick != currentTick) enqueue(scoreboard, currentTick);
+            }
+        }
+        int updated = 0;
+        List<Scoreboard> due = buckets.remove(currentTick);
+        if (due != null) {
+            long start = System.nanoTime();
+            for (Scoreboard scoreboard : due) {
+                Long dueTick = scheduled.get(scoreboard);
+                if (dueTick == null || dueTick != currentTick) continue;
+                try {
+                    scoreboard.update();
+                } catch (RuntimeException ex) {
+                    ScoreboardLib.getPluginInstance().getLogger().log(Level.SEVERE, "Failed to update scoreboard " + scoreboard, ex);
+                }
+                updated++;
+                // The scoreboard may have been deactivated or rescheduled while updating
+                dueTick = scheduled.get(scoreboard);
+                if (dueTick != null && dueTick == currentTick) {
+                    enqueue(scoreboard, after(currentTick, intervalOf(scoreboard)));
+                }
+            }
+            ScoreboardLib.getMetrics().recordTick(System.nanoTime() - start);
+        }
+        updatedLastTick = updated;
+        if (scheduled.isEmpty()) stop();
+    }
+
+    private void enqueue(Scoreboard scoreboard, long tick) {
+        Long previous = scheduled.put(scoreboard, tick);
+        if (previous != null && previous > currentTick) {
+            // Leave no stale entry in a bucket that may never be reached
+            List<Scoreboard> bucket = buckets.get(previous);
+            if (bucket != null && bucket.remove(scoreboard) && bucket.isEmpty()) buckets.remove(previous);
+        }
+        List<Scoreboard> bucket = buckets.get(tick);
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            buckets.put(tick, bucket);
+        }
+        bucket.add(scoreboard);
+    }
+
+    private static long after(long tick, long interval) {
+        // An interval of Long.MAX_VALUE means never, instead of overflowing into the past
+        return interval > Long.MAX_VALUE - tick ? Long.MAX_VALUE : tick + interval;
+    }
+
+    private long intervalOf(Scoreboard scoreboard) {
+        return Math.max(1L, (long) Math.ceil(scoreboard.getUpdateInterval() * getLoadFactor()));
+    }
+
+    private void start() {
+        if (task != null || manual) return;
+        task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                tick();
+            }
+        };
+        task.runTaskTimer(ScoreboardLib.getPluginInstance(), 1, 1);
+        lastTickNanos = 0;
+        averageTickNanos = TICK_NANOS;
+    }
+
+    private void stop() {
+        if (task == null) return;
+        task.cancel();
+        task = null;
+        buckets.clear();
+        invalidated.clear();
+    }
+
+}
@@ -1,18 +1,28 @@
 package me.tigerhix.lib.scoreboard.common;
 
 import me.tigerhix.lib.scoreboard.type.Entry;
+import me.tigerhix.lib.scoreboard.type.LineProvider;
 
-import java.util.LinkedList;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * An utility to make pretty entries for the scoreboards, without calculating the positions by yourself.
+ * <p>
+ * A builder can be kept and reused: {@link #reset()} rewinds it while keeping its entries, and {@link #buildView()}
+ * returns them without copying, so building the same amount of lines again does not allocate.
  *
  * @author TigerHix
  */
 public final class EntryBuilder {
 
-    private final LinkedList<Entry> entries = new LinkedList<>();
+    private final List<Entry> view = new EntryList();
+
+    private Entry[] entries = new Entry[16];
+    private int size;
 
     /**
      * Append a blank line.
@@ -30,26 +40,107 @@ public final class EntryBuilder {
      * @return this
      */
     public EntryBuilder next(String string) {
-        entries.add(new Entry(adapt(string), entries.size()));
+        return append(adapt(string));
+    }
+
+    /**
+     * Append a new line filled from a template. The text is already formatted, so it is not translated again.
+     *
+     * @param line line
+     * @return this
+     */
+    public EntryBuilder next(LineTemplate.Line line) {
+        return append(cut(line.toString()));
+    }
+
+    /**
+     * Append a new line supplied by a provider, which is only asked again every given amount of ticks.
+     *
+     * @param provider        provider
+     * @param refreshInterval refresh interval
+     * @return this
+     */
+    public EntryBuilder next(LineProvider provider, long refreshInterval) {
+        append("");
+        entries[size - 1].setProvider(provider, refreshInterval);
         return this;
     }
 
     /**
-     * Returns a map of entries.
+     * Returns a new list of entries, which is not affected by using this builder again.
      *
-     * @return map
+     * @return list
      */
     public List<Entry> build() {
-        for (Entry entry : entries) {
-            entry.setPosition(entries.size() - entry.getPosition());
+        List<Entry> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Entry entry = entries[i];
+            Entry copy = new Entry(entry.getName(), size - i, false);
+            if (entry.getProvider() != null) copy.setProvider(entry.getProvider(), entry.getRefreshInterval());
+            list.add(copy);
+        }
+        return list;
+    }
+
+    /**
+     * Returns the entries as an unmodifiable list backed by this builder, without copying them. The list and its
+     * entries are only valid until the builder is reset.
+     *
+     * @return list
+     */
+    public List<Entry> buildView() {
+        for (int i = 0; i < size; i++) {
+            entries[i].setPosition(size - i);
         }
-        return entries;
+        return view;
+    }
+
+    /**
+     * Remove all lines, keeping the entries for reuse.
+     *
+     * @return this
+     */
+    public EntryBuilder reset() {
+        size = 0;
+        return this;
+    }
+
+    private EntryBuilder append(String text) {
+        if (size == entries.length) entries = Arrays.copyOf(entries, size * 2);
+        Entry entry = entries[size];
+        if (entry == null) {
+            entries[size] = new Entry(text, size, false);
+        } else {
+            entry.setName(text);
+            entry.setProvider(null, 0);
+        }
+        size++;
+        return this;
     }
 
     private String adapt(String entry) {
+        return Strings.format(cut(entry));
+    }
+
+    private String cut(String entry) {
         // Cut off the exceeded part if needed
         if (entry.length() > 48) entry = entry.substring(0, 47);
-        return Strings.format(entry);
+        return entry;
+    }
+
+    private class EntryList extends AbstractList<Entry> implements RandomAccess {
+
+        @Override
+        public Entry get(int index) {
+            if (index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            return entries[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
     }
 
 }
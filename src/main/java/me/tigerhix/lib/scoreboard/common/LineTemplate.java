@@ -0,0 +1,182 @@
+package me.tigerhix.lib.scoreboard.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A line of text with named placeholders, e.g. {@code "&aCoins: {coins}"}. The text is parsed and colour-translated
+ * once, lines are then produced by filling the placeholders.
+ * <p>
+ * Placeholder values are inserted as they are, they are not colour-translated.
+ *
+ * @author TigerHix
+ */
+public final class LineTemplate {
+
+    private final String[] literals;
+    private final String[] slots;
+    private final int length;
+
+    private LineTemplate(String[] literals, String[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.length = length;
+    }
+
+    /**
+     * Parse the pattern. Placeholders are written as {@code {name}}, where the name consists of letters, digits and
+     * underscores; any other brace is kept as literal text.
+     *
+     * @param pattern pattern
+     * @return template
+     */
+    public static LineTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < pattern.length()) {
+            char c = pattern.charAt(index);
+            if (c == '{') {
+                int end = index + 1;
+                while (end < pattern.length() && isNameChar(pattern.charAt(end))) end++;
+                if (end > index + 1 && end < pattern.length() && pattern.charAt(end) == '}') {
+                    literals.add(Strings.format(literal.toString()));
+                    slots.add(pattern.substring(index + 1, end));
+                    literal.setLength(0);
+                    index = end + 1;
+                    continue;
+                }
+            }
+            literal.append(c);
+            index++;
+        }
+        literals.add(Strings.format(literal.toString()));
+        return new LineTemplate(literals.toArray(new String[literals.size()]), slots.toArray(new String[slots.size()]));
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    /**
+     * Returns the amount of placeholders.
+     *
+     * @return slot count
+     */
+    public int getSlotCount() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the index of the first placeholder with the given name, or -1 if there is none.
+     *
+     * @param name name
+     * @return index
+     */
+    public int indexOf(String name) {
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i].equals(name)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Create a line to fill. A line is meant to be kept and refilled on every update.
+     *
+     * @return line
+     */
+    public Line newLine() {
+        return new Line();
+    }
+
+    @Override
+    public String toString() {
+        return "LineTemplate{" +
+                "literals=" + Arrays.toString(literals) +
+                ", slots=" + Arrays.toString(slots) +
+                '}';
+    }
+
+    /**
+     * The placeholder values of a template, along with a reused buffer to build the text into. The text is only rebuilt
+     * when a value changed. Not thread-safe.
+     */
+    public final class Line {
+
+        private final String[] strings = new String[slots.length];
+        private final long[] numbers = new long[slots.length];
+        private final boolean[] numeric = new boolean[slots.length];
+        private final StringBuilder buffer = new StringBuilder(length + 8 * slots.length);
+
+        private String text;
+
+        private Line() {
+            Arrays.fill(strings, "");
+        }
+
+        public Line set(int slot, String value) {
+            if (value == null) value = "null";
+            if (!numeric[slot] && strings[slot].equals(value)) return this;
+            strings[slot] = value;
+            numeric[slot] = false;
+            text = null;
+            return this;
+        }
+
+        public Line set(int slot, long value) {
+            if (numeric[slot] && numbers[slot] == value) return this;
+            numbers[slot] = value;
+            numeric[slot] = true;
+            text = null;
+            return this;
+        }
+
+        public Line set(String name, String value) {
+            return set(slotOf(name), value);
+        }
+
+        public Line set(String name, long value) {
+            return set(slotOf(name), value);
+        }
+
+        public LineTemplate getTemplate() {
+            return LineTemplate.this;
+        }
+
+        private int slotOf(String name) {
+            int slot = indexOf(name);
+            if (slot == -1) throw new IllegalArgumentException("No placeholder named " + name);
+            return slot;
+        }
+
+        /**
+         * Returns the filled text. The same instance is returned as long as no value changed.
+         *
+         * @return text
+         */
+        @Override
+        public String toString() {
+            if (text != null) return text;
+            buffer.setLength(0);
+            for (int i = 0; i < slots.length; i++) {
+                buffer.append(literals[i]);
+                if (numeric[i]) {
+                    buffer.append(numbers[i]);
+                } else {
+                    buffer.append(strings[i]);
+                }
+            }
+            buffer.append(literals[slots.length]);
+            text = buffer.toString();
+            return text;
+        }
+
+    }
+
+}
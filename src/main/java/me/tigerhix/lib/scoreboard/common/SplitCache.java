@@ -0,0 +1,178 @@
+package me.tigerhix.lib.scoreboard.common;
+
+import org.bukkit.ChatColor;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of long lines split into the prefix, entry name and suffix used to display them, shared by all
+ * scoreboards. Lines seen before are looked up instead of being cut again; the least recently used lines are dropped
+ * once the cache is full.
+ * <p>
+ * A line is never cut between a colour character and its code. The client displays prefix, name and suffix as one
+ * string, so colours carry over the cut points. Like the scoreboards, the cache is only used from the main thread.
+ *
+ * @author TigerHix
+ */
+public final class SplitCache {
+
+    private final Map<String, Split[]> cache = new LinkedHashMap<String, Split[]>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Split[]> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    private int maxSize;
+    private long hits;
+    private long misses;
+
+    /**
+     * Create a cache keeping the splits of at most the given amount of lines.
+     *
+     * @param maxSize maximum size
+     */
+    public SplitCache(int maxSize) {
+        setMaxSize(maxSize);
+    }
+
+    /**
+     * Returns the split of a line longer than 16 characters. Higher offsets cut the line further to the left, so lines
+     * with the same text can be given different entry names.
+     *
+     * @param text   text, at most 48 characters
+     * @param offset offset
+     * @return split
+     */
+    public Split split(String text, int offset) {
+        Split[] splits = cache.get(text);
+        if (splits != null && offset < splits.length && splits[offset] != null) {
+            hits++;
+            return splits[offset];
+        }
+        misses++;
+        Split split = compute(text, offset);
+        if (splits == null || offset >= splits.length) {
+            splits = splits == null ? new Split[offset + 1] : Arrays.copyOf(splits, offset + 1);
+            cache.put(text, splits);
+        }
+        splits[offset] = split;
+        return split;
+    }
+
+    /**
+     * Set the maximum amount of lines kept, dropping the least recently used ones above it.
+     *
+     * @param maxSize maximum size
+     */
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 1) throw new IllegalArgumentException("Cache size must be at least 1");
+        this.maxSize = maxSize;
+        while (cache.size() > maxSize) {
+            cache.remove(cache.keySet().iterator().next());
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the amount of lines currently cached.
+     *
+     * @return size
+     */
+    public int getSize() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return hits;
+    }
+
+    public long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Returns the share of lookups answered from the cache, between 0 and 1.
+     *
+     * @return hit rate
+     */
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    /**
+     * Empty the cache and its counters.
+     */
+    public void clear() {
+        cache.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    private static Split compute(String text, int offset) {
+        int cut = 15 - offset;
+        if (cut < 1) {
+            // No cut left to shift, display what fits in the prefix and suffix behind an invisible name
+            int end = cutAt(text, 0, 16);
+            String prefix = text.substring(0, end);
+            // The invisible name resets the colour, so the suffix continues with the colour of the prefix
+            String colors = ChatColor.getLastColors(prefix);
+            return new Split(prefix, Strings.invisibleLineName(offset), colors + text.substring(end, cutAt(text, end, 16 - colors.length())));
+        }
+        if (text.charAt(cut - 1) == ChatColor.COLOR_CHAR) cut--;
+        int end = cutAt(text, cut, 16);
+        return new Split(text.substring(0, cut), text.substring(cut, end), text.substring(end, cutAt(text, end, 16)));
+    }
+
+    private static int cutAt(String text, int start, int length) {
+        int end = start + length;
+        if (end >= text.length()) return text.length();
+        // Keep the colour character with its code
+        return text.charAt(end - 1) == ChatColor.COLOR_CHAR ? end - 1 : end;
+    }
+
+    /**
+     * A line cut into the prefix and suffix of a team, and the entry name displayed between them.
+     */
+    public static final class Split {
+
+        private final String prefix;
+        private final String name;
+        private final String suffix;
+
+        Split(String prefix, String name, String suffix) {
+            this.prefix = prefix;
+            this.name = name;
+            this.suffix = suffix;
+        }
+
+        public String getPrefix() {
+            return prefix;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getSuffix() {
+            return suffix;
+        }
+
+        @Override
+        public String toString() {
+            return "Split{" +
+                    "prefix='" + prefix + '\'' +
+                    ", name='" + name + '\'' +
+                    ", suffix='" + suffix + '\'' +
+                    '}';
+        }
+
+    }
+
+}
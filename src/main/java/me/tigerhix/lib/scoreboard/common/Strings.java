@@ -11,6 +11,38 @@ public final class Strings {
         return ChatColor.translateAlternateColorCodes('&', string);
     }
 
+    /**
+     * Returns an entry name made of colour codes only, displayed as nothing, for a line split around it. Every index
+     * gives a different name, none of which is also returned by {@link #invisibleOverrideName(int)}.
+     *
+     * @param index index
+     * @return name
+     */
+    public static String invisibleLineName(int index) {
+        return invisibleName(index * 2);
+    }
+
+    /**
+     * Returns an entry name made of colour codes only, displayed as nothing, for a line overridden in a group. Every
+     * index gives a different name, none of which is also returned by {@link #invisibleLineName(int)}.
+     *
+     * @param index index
+     * @return name
+     */
+    public static String invisibleOverrideName(int index) {
+        return invisibleName(index * 2 + 1);
+    }
+
+    private static String invisibleName(int index) {
+        // One colour code per hexadecimal digit, ended by a reset
+        StringBuilder name = new StringBuilder();
+        do {
+            name.append(ChatColor.COLOR_CHAR).append(Character.forDigit(index % 16, 16));
+            index /= 16;
+        } while (index > 0);
+        return name.append(ChatColor.RESET).toString();
+    }
+
     public static String repeat(String string, int count) {
         if (count <= 1) {
             return count == 0 ? "" : string;
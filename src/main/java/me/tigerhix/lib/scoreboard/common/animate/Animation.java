@@ -0,0 +1,174 @@
+package me.tigerhix.lib.scoreboard.common.animate;
+
+import me.tigerhix.lib.scoreboard.ScoreboardLib;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable animation driven by the tick clock of the {@link me.tigerhix.lib.scoreboard.ScoreboardScheduler}
+ * instead of by calls to {@code next()}. Every frame has its own duration, and the frame to display is derived from the
+ * current tick alone, so one instance can be shared by any number of scoreboards.
+ *
+ * @author TigerHix
+ */
+public final class Animation {
+
+    private final String[] frames;
+    private final long[] ends;
+    private final long cycle;
+
+    private Animation(String[] frames, long[] ends) {
+        this.frames = frames;
+        this.ends = ends;
+        this.cycle = ends[ends.length - 1];
+    }
+
+    /**
+     * Create an animation in which every frame lasts the same amount of ticks.
+     *
+     * @param ticksPerFrame ticks per frame
+     * @param frames        frames
+     * @return animation
+     */
+    public static Animation of(int ticksPerFrame, String... frames) {
+        return of(ticksPerFrame, Arrays.asList(frames));
+    }
+
+    /**
+     * Create an animation in which every frame lasts the same amount of ticks.
+     *
+     * @param ticksPerFrame ticks per frame
+     * @param frames        frames
+     * @return animation
+     */
+    public static Animation of(int ticksPerFrame, List<String> frames) {
+        Builder builder = builder();
+        for (String frame : frames) {
+            builder.frame(frame, ticksPerFrame);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Create an animation from the frames an animatable string produces by calling {@code next()}.
+     *
+     * @param string        string
+     * @param frameCount    amount of frames to take
+     * @param ticksPerFrame ticks per frame
+     * @return animation
+     */
+    public static Animation of(AnimatableString string, int frameCount, int ticksPerFrame) {
+        Builder builder = builder();
+        for (int i = 0; i < frameCount; i++) {
+            builder.frame(string.next(), ticksPerFrame);
+        }
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the frame to display at the current tick of the scheduler.
+     *
+     * @return frame
+     */
+    public String current() {
+        return getFrame(ScoreboardLib.getScheduler().getCurrentTick());
+    }
+
+    /**
+     * Returns the frame to display at the given tick.
+     *
+     * @param tick tick
+     * @return frame
+     */
+    public String getFrame(long tick) {
+        return frames[indexAt(tick)];
+    }
+
+    /**
+     * Returns the first tick after the given one at which a different frame is displayed, or {@link Long#MAX_VALUE} if
+     * the animation has a single frame.
+     *
+     * @param tick tick
+     * @return tick of the next frame change
+     */
+    public long getNextChangeTick(long tick) {
+        if (frames.length == 1) return Long.MAX_VALUE;
+        long position = positionOf(tick);
+        return tick + ends[indexAt(tick)] - position;
+    }
+
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    /**
+     * Returns the length of one cycle of the animation, in ticks.
+     *
+     * @return cycle length
+     */
+    public long getCycleLength() {
+        return cycle;
+    }
+
+    private long positionOf(long tick) {
+        return ((tick % cycle) + cycle) % cycle;
+    }
+
+    private int indexAt(long tick) {
+        long position = positionOf(tick);
+        // Find the first frame ending after the position
+        int low = 0;
+        int high = ends.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (ends[middle] <= position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    public static final class Builder {
+
+        private final List<String> frames = new ArrayList<>();
+        private final List<Integer> durations = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Append a frame.
+         *
+         * @param frame frame
+         * @param ticks ticks the frame is displayed for
+         * @return this
+         */
+        public Builder frame(String frame, int ticks) {
+            if (ticks < 1) throw new IllegalArgumentException("Frame duration must be at least one tick");
+            frames.add(frame);
+            durations.add(ticks);
+            return this;
+        }
+
+        public Animation build() {
+            if (frames.isEmpty()) throw new IllegalStateException("Animation has no frames");
+            long[] ends = new long[durations.size()];
+            long end = 0;
+            for (int i = 0; i < ends.length; i++) {
+                end += durations.get(i);
+                ends[i] = end;
+            }
+            return new Animation(frames.toArray(new String[frames.size()]), ends);
+        }
+
+    }
+
+}
@@ -1,13 +1,52 @@
 package me.tigerhix.lib.scoreboard.common.animate;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An animation highlighting one character of the context after another.
+ * <p>
+ * Frames are generated on demand and shared by all highlighted strings with the same context, formats, prefix and
+ * suffix. A highlighted string whose frames are changed gets its own copy of them first.
+ *
+ * @author TigerHix
+ */
 public class HighlightedString extends FrameAnimatedString {
 
+    private static final AtomicLong STORED_CHARACTERS = new AtomicLong();
+    private static final AtomicLong STORED_FRAMES = new AtomicLong();
+    private static final Cache<List<String>, FrameStore> STORES = CacheBuilder.newBuilder()
+            .maximumSize(512)
+            .removalListener(new RemovalListener<List<String>, FrameStore>() {
+                @Override
+                public void onRemoval(RemovalNotification<List<String>, FrameStore> notification) {
+                    notification.getValue().release();
+                }
+            })
+            .build();
+
     protected String context;
     protected String normalFormat;
     protected String highlightFormat;
     protected String prefix = "";
     protected String suffix = "";
 
+    private boolean ownFrames;
+
     public HighlightedString(String context, String normalFormat, String highlightFormat) {
         super();
         this.context = context;
@@ -27,17 +66,71 @@ public class HighlightedString extends FrameAnimatedString {
     }
 
     protected void generateFrames() {
-        int index = 0;
-        while (index < context.length()) {
-            if (context.charAt(index) != ' ') {
-                String highlighted = normalFormat + context.substring(0, index) + highlightFormat + context.charAt(index) + normalFormat + context.substring(index + 1, context.length());
-                String whole = prefix + highlighted + suffix;
-                addFrame(whole);
-            } else {
-                addFrame(prefix + normalFormat + context + suffix);
-            }
-            index++;
+        final List<String> key = Arrays.asList(context, normalFormat, highlightFormat, prefix, suffix);
+        try {
+            frames = STORES.get(key, new Callable<FrameStore>() {
+                @Override
+                public FrameStore call() {
+                    return new FrameStore(key.get(0), key.get(1), key.get(2), key.get(3), key.get(4));
+                }
+            });
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError ex) {
+            // Fail the same way generating the frames directly would
+            throw Throwables.propagate(ex.getCause());
         }
+        ownFrames = false;
+    }
+
+    @Override
+    public void addFrame(String string) {
+        ownFrames().add(string);
+    }
+
+    @Override
+    public void setFrame(int frame, String string) {
+        ownFrames().set(frame, string);
+    }
+
+    @Override
+    public void removeFrame(String string) {
+        ownFrames().remove(string);
+    }
+
+    private List<String> ownFrames() {
+        // Copy the shared frames before the first change
+        if (!ownFrames) {
+            frames = new ArrayList<>(frames);
+            ownFrames = true;
+        }
+        return frames;
+    }
+
+    /**
+     * Returns the amount of distinct highlighted strings whose frames are currently stored.
+     *
+     * @return store count
+     */
+    public static long getStoreCount() {
+        return STORES.size();
+    }
+
+    /**
+     * Returns the amount of frames generated and stored for all highlighted strings.
+     *
+     * @return frame count
+     */
+    public static long getStoredFrameCount() {
+        return STORED_FRAMES.get();
+    }
+
+    /**
+     * Returns an estimate of the heap used by the stored frames, in bytes.
+     *
+     * @return heap usage
+     */
+    public static long getStoredHeapUsage() {
+        // Two bytes per character, plus the string and array headers
+        return STORED_CHARACTERS.get() * 2 + STORED_FRAMES.get() * 56;
     }
 
     public String getContext() {
@@ -60,4 +153,78 @@ public class HighlightedString extends FrameAnimatedString {
         return suffix;
     }
 
+    private static class FrameStore extends AbstractList<String> implements RandomAccess {
+
+        private final String context;
+        private final String normalFormat;
+        private final String highlightFormat;
+        private final String prefix;
+        private final String suffix;
+        private final String[] generated;
+
+        private String plain;
+        private boolean released;
+
+        FrameStore(String context, String normalFormat, String highlightFormat, String prefix, String suffix) {
+            this.context = context;
+            this.normalFormat = normalFormat;
+            this.highlightFormat = highlightFormat;
+            this.prefix = prefix;
+            this.suffix = suffix;
+            this.generated = new String[context.length()];
+        }
+
+        @Override
+        public String get(int index) {
+            String frame = generated[index];
+            return frame != null ? frame : generate(index);
+        }
+
+        private synchronized String generate(int index) {
+            String frame = generated[index];
+            if (frame != null) return frame;
+            if (context.charAt(index) != ' ') {
+                String highlighted = normalFormat + context.substring(0, index) + highlightFormat + context.charAt(index) + normalFormat + context.substring(index + 1, context.length());
+                frame = prefix + highlighted + suffix;
+                count(frame);
+            } else {
+                // Frames on spaces all look the same
+                if (plain == null) {
+                    plain = prefix + normalFormat + context + suffix;
+                    count(plain);
+                }
+                frame = plain;
+            }
+            generated[index] = frame;
+            return frame;
+        }
+
+        private void count(String frame) {
+            // Frames still generated by live instances after the store was evicted are not counted
+            if (released) return;
+            STORED_FRAMES.incrementAndGet();
+            STORED_CHARACTERS.addAndGet(frame.length());
+        }
+
+        @Override
+        public int size() {
+            return generated.length;
+        }
+
+        synchronized void release() {
+            if (released) return;
+            released = true;
+            for (String frame : generated) {
+                if (frame == null || frame == plain) continue;
+                STORED_FRAMES.decrementAndGet();
+                STORED_CHARACTERS.addAndGet(-frame.length());
+            }
+            if (plain != null) {
+                STORED_FRAMES.decrementAndGet();
+                STORED_CHARACTERS.addAndGet(-plain.length());
+            }
+        }
+
+    }
+
 }
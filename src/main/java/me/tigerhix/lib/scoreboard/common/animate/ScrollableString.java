@@ -1,23 +1,56 @@
 package me.tigerhix.lib.scoreboard.common.animate;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.bukkit.ChatColor;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
  * An utility to scroll coloured strings.
+ * <p>
+ * All frames, including the colour carried over from earlier frames, are worked out once when the string is created.
+ * Scrollers with the same message, width and spacing share their frames. A scroller whose frames are changed gets its
+ * own copy of them first, and then loops over all of them.
  *
  * @author Chinwe
  */
 public class ScrollableString extends FrameAnimatedString {
 
-    private int position;
-    private List<String> list;
-    private ChatColor color = ChatColor.RESET;
+    private static final Cache<List<Object>, Ring> RINGS = CacheBuilder.newBuilder().maximumSize(256).build();
 
-    public ScrollableString(String message, int width, int spaceBetween) {
-        list = new ArrayList<>();
+    private int loopStart;
+    private boolean ownFrames;
+
+    public ScrollableString(final String message, final int width, final int spaceBetween) {
+        Ring ring;
+        try {
+            ring = RINGS.get(Arrays.<Object>asList(message, width, spaceBetween), new Callable<Ring>() {
+                @Override
+                public Ring call() {
+                    return generate(message, width, spaceBetween);
+                }
+            });
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError ex) {
+            // Fail the same way generating the frames directly would
+            throw Throwables.propagate(ex.getCause());
+        }
+        frames = ring.frames;
+        loopStart = ring.loopStart;
+    }
+
+    private static Ring generate(String message, int width, int spaceBetween) {
+        List<String> list = new ArrayList<>();
         // String is too short for window?
         if (message.length() < width) {
             StringBuilder sb = new StringBuilder(message);
@@ -51,28 +84,81 @@ public class ScrollableString extends FrameAnimatedString {
                 break;
             list.add(space.substring(0, space.length() - i) + message.substring(0, width - (spaceBetween > width ? width : spaceBetween) + i));
         }
+        // Scroll until the position and the carried colour repeat, from there on the frames loop
+        List<String> frames = new ArrayList<>();
+        Map<Integer, Integer> seen = new HashMap<>();
+        int colors = ChatColor.values().length;
+        int position = 0;
+        ChatColor color = ChatColor.RESET;
+        while (true) {
+            Integer start = seen.put((position % list.size()) * colors + color.ordinal(), frames.size());
+            if (start != null) return new Ring(Collections.unmodifiableList(frames), start);
+            StringBuilder sb = new StringBuilder(list.get(position++ % list.size()));
+            if (sb.charAt(sb.length() - 1) == ChatColor.COLOR_CHAR) {
+                sb.setCharAt(sb.length() - 1, ' ');
+            }
+            if (sb.charAt(0) == ChatColor.COLOR_CHAR) {
+                ChatColor c = ChatColor.getByChar(sb.charAt(1));
+                if (c != null) {
+                    color = c;
+                    sb = new StringBuilder(list.get(position++ % list.size()));
+                    if (sb.charAt(0) != ' ')
+                        sb.setCharAt(0, ' ');
+                }
+            }
+            frames.add(color + sb.toString());
+        }
     }
 
     @Override
-    public String next() {
-        StringBuilder sb = getNext();
-        if (sb.charAt(sb.length() - 1) == ChatColor.COLOR_CHAR) {
-            sb.setCharAt(sb.length() - 1, ' ');
-        }
-        if (sb.charAt(0) == ChatColor.COLOR_CHAR) {
-            ChatColor c = ChatColor.getByChar(sb.charAt(1));
-            if (c != null) {
-                color = c;
-                sb = getNext();
-                if (sb.charAt(0) != ' ')
-                    sb.setCharAt(0, ' ');
-            }
+    public void addFrame(String string) {
+        ownFrames().add(string);
+    }
+
+    @Override
+    public void setFrame(int frame, String string) {
+        ownFrames().set(frame, string);
+    }
+
+    @Override
+    public void removeFrame(String string) {
+        ownFrames().remove(string);
+    }
+
+    private List<String> ownFrames() {
+        // Copy the shared frames before the first change, the frames before the loop no longer lead into it
+        if (!ownFrames) {
+            frames = new ArrayList<>(frames);
+            loopStart = 0;
+            ownFrames = true;
         }
-        return color + sb.toString();
+        return frames;
+    }
+
+    @Override
+    public String next() {
+        currentFrame++;
+        if (currentFrame == frames.size()) currentFrame = loopStart;
+        return frames.get(currentFrame);
     }
 
-    private StringBuilder getNext() {
-        return new StringBuilder(list.get(position++ % list.size()));
+    @Override
+    public String previous() {
+        currentFrame--;
+        if (currentFrame < loopStart) currentFrame = frames.size() - 1;
+        return frames.get(currentFrame);
+    }
+
+    private static class Ring {
+
+        private final List<String> frames;
+        private final int loopStart;
+
+        Ring(List<String> frames, int loopStart) {
+            this.frames = frames;
+            this.loopStart = loopStart;
+        }
+
     }
 
 }
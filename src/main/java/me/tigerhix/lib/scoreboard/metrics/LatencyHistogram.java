@@ -0,0 +1,74 @@
+package me.tigerhix.lib.scoreboard.metrics;
+
+/**
+ * A histogram of durations in power-of-two nanosecond buckets. Recording is a few arithmetic operations and never
+ * allocates. Meant to be written from a single thread; reads from other threads may be slightly inconsistent.
+ *
+ * @author TigerHix
+ */
+public final class LatencyHistogram {
+
+    private final long[] buckets = new long[65];
+
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos duration in nanoseconds
+     */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        buckets[64 - Long.numberOfLeadingZeros(nanos)]++;
+        count++;
+        total += nanos;
+        if (nanos > max) max = nanos;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return total;
+    }
+
+    public long getMaxNanos() {
+        return max;
+    }
+
+    public long getMeanNanos() {
+        long count = this.count;
+        return count == 0 ? 0 : total / count;
+    }
+
+    /**
+     * Returns an upper bound of the given percentile, accurate to a factor of two.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return duration in nanoseconds
+     */
+    public long getPercentileNanos(double percentile) {
+        long count = this.count;
+        if (count == 0) return 0;
+        long target = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= target) return Math.min(max, i == 0 ? 0 : i == 64 ? Long.MAX_VALUE : (1L << i) - 1);
+        }
+        return max;
+    }
+
+    public void reset() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = 0;
+        }
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+
+}
@@ -0,0 +1,76 @@
+package me.tigerhix.lib.scoreboard.metrics;
+
+import me.tigerhix.lib.scoreboard.render.ScoreboardRenderer;
+
+/**
+ * Counts every operation in the given metrics before passing it on to the actual renderer.
+ *
+ * @author TigerHix
+ */
+public class MeteredRenderer implements ScoreboardRenderer {
+
+    private final ScoreboardRenderer renderer;
+    private final ScoreboardMetrics metrics;
+
+    public MeteredRenderer(ScoreboardRenderer renderer, ScoreboardMetrics metrics) {
+        this.renderer = renderer;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void show() {
+        renderer.show();
+    }
+
+    @Override
+    public void hide() {
+        renderer.hide();
+    }
+
+    @Override
+    public void setTitle(String title) {
+        metrics.countTitleUpdate();
+        renderer.setTitle(title);
+    }
+
+    @Override
+    public void setScore(String entry, int score) {
+        metrics.countScoreUpdate();
+        renderer.setScore(entry, score);
+    }
+
+    @Override
+    public void resetScore(String entry) {
+        metrics.countScoreReset();
+        renderer.resetScore(entry);
+    }
+
+    @Override
+    public void createTeam(String team, String prefix, String suffix) {
+        metrics.countTeamCreated();
+        renderer.createTeam(team, prefix, suffix);
+    }
+
+    @Override
+    public void removeTeam(String team) {
+        metrics.countTeamRemoved();
+        renderer.removeTeam(team);
+    }
+
+    @Override
+    public void addTeamEntry(String team, String entry) {
+        metrics.countTeamEntryAdded();
+        renderer.addTeamEntry(team, entry);
+    }
+
+    @Override
+    public void removeTeamEntry(String team, String entry) {
+        metrics.countTeamEntryRemoved();
+        renderer.removeTeamEntry(team, entry);
+    }
+
+    public ScoreboardRenderer getRenderer() {
+        return renderer;
+    }
+
+}
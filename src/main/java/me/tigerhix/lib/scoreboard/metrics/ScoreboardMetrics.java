@@ -0,0 +1,227 @@
+package me.tigerhix.lib.scoreboard.metrics;
+
+/**
+ * Counters and latency histograms of scoreboard updates. Every scoreboard keeps its own metrics, which also count
+ * towards the aggregated metrics of the library available from {@link me.tigerhix.lib.scoreboard.ScoreboardLib#getMetrics()}.
+ * <p>
+ * Metrics are written on the main thread without synchronisation, so reads from other threads may be slightly
+ * inconsistent.
+ *
+ * @author TigerHix
+ */
+public class ScoreboardMetrics implements ScoreboardMetricsMXBean {
+
+    private final ScoreboardMetrics parent;
+    private final LatencyHistogram handlerLatency = new LatencyHistogram();
+    private final LatencyHistogram applyLatency = new LatencyHistogram();
+    private final LatencyHistogram tickLatency = new LatencyHistogram();
+
+    private long updates;
+    private long titleUpdates;
+    private long scoreUpdates;
+    private long scoreResets;
+    private long teamsCreated;
+    private long teamsRemoved;
+    private long teamEntriesAdded;
+    private long teamEntriesRemoved;
+    private long teamCount;
+    private long fakePlayerCount;
+
+    public ScoreboardMetrics() {
+        this(null);
+    }
+
+    /**
+     * Create metrics which also count towards the given aggregated metrics.
+     *
+     * @param parent aggregated metrics
+     */
+    public ScoreboardMetrics(ScoreboardMetrics parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Record an update, with the time spent in the handler and the time spent applying the result.
+     *
+     * @param handlerNanos handler time
+     * @param applyNanos   apply time
+     */
+    public void recordUpdate(long handlerNanos, long applyNanos) {
+        updates++;
+        handlerLatency.record(handlerNanos);
+        applyLatency.record(applyNanos);
+        if (parent != null) parent.recordUpdate(handlerNanos, applyNanos);
+    }
+
+    /**
+     * Record the time all scoreboard work took in one server tick. Only recorded by the aggregated metrics.
+     *
+     * @param nanos tick time
+     */
+    public void recordTick(long nanos) {
+        tickLatency.record(nanos);
+    }
+
+    public void countTitleUpdate() {
+        titleUpdates++;
+        if (parent != null) parent.countTitleUpdate();
+    }
+
+    public void countScoreUpdate() {
+        scoreUpdates++;
+        if (parent != null) parent.countScoreUpdate();
+    }
+
+    public void countScoreReset() {
+        scoreResets++;
+        if (parent != null) parent.countScoreReset();
+    }
+
+    public void countTeamCreated() {
+        teamsCreated++;
+        if (parent != null) parent.countTeamCreated();
+    }
+
+    public void countTeamRemoved() {
+        teamsRemoved++;
+        if (parent != null) parent.countTeamRemoved();
+    }
+
+    public void countTeamEntryAdded() {
+        teamEntriesAdded++;
+        if (parent != null) parent.countTeamEntryAdded();
+    }
+
+    public void countTeamEntryRemoved() {
+        teamEntriesRemoved++;
+        if (parent != null) parent.countTeamEntryRemoved();
+    }
+
+    /**
+     * Set the current sizes of the team and fake player caches.
+     *
+     * @param teamCount       team count
+     * @param fakePlayerCount fake player count
+     */
+    public void setCacheSizes(long teamCount, long fakePlayerCount) {
+        if (parent != null) parent.setCacheSizes(parent.teamCount + teamCount - this.teamCount, parent.fakePlayerCount + fakePlayerCount - this.fakePlayerCount);
+        this.teamCount = teamCount;
+        this.fakePlayerCount = fakePlayerCount;
+    }
+
+    public LatencyHistogram getHandlerLatency() {
+        return handlerLatency;
+    }
+
+    public LatencyHistogram getApplyLatency() {
+        return applyLatency;
+    }
+
+    public LatencyHistogram getTickLatency() {
+        return tickLatency;
+    }
+
+    @Override
+    public long getUpdates() {
+        return updates;
+    }
+
+    @Override
+    public long getTitleUpdates() {
+        return titleUpdates;
+    }
+
+    @Override
+    public long getScoreUpdates() {
+        return scoreUpdates;
+    }
+
+    @Override
+    public long getScoreResets() {
+        return scoreResets;
+    }
+
+    @Override
+    public long getTeamsCreated() {
+        return teamsCreated;
+    }
+
+    @Override
+    public long getTeamsRemoved() {
+        return teamsRemoved;
+    }
+
+    @Override
+    public long getTeamEntriesAdded() {
+        return teamEntriesAdded;
+    }
+
+    @Override
+    public long getTeamEntriesRemoved() {
+        return teamEntriesRemoved;
+    }
+
+    @Override
+    public long getTeamCount() {
+        return teamCount;
+    }
+
+    @Override
+    public long getFakePlayerCount() {
+        return fakePlayerCount;
+    }
+
+    @Override
+    public double getHandlerMeanMicros() {
+        return handlerLatency.getMeanNanos() / 1000.0;
+    }
+
+    @Override
+    public double getHandlerP99Micros() {
+        return handlerLatency.getPercentileNanos(99) / 1000.0;
+    }
+
+    @Override
+    public double getApplyMeanMicros() {
+        return applyLatency.getMeanNanos() / 1000.0;
+    }
+
+    @Override
+    public double getApplyP99Micros() {
+        return applyLatency.getPercentileNanos(99) / 1000.0;
+    }
+
+    @Override
+    public double getTickMeanMicros() {
+        return tickLatency.getMeanNanos() / 1000.0;
+    }
+
+    @Override
+    public double getTickP99Micros() {
+        return tickLatency.getPercentileNanos(99) / 1000.0;
+    }
+
+    @Override
+    public double getTickMaxMicros() {
+        return tickLatency.getMaxNanos() / 1000.0;
+    }
+
+    /**
+     * Reset all counters and histograms, keeping the cache sizes.
+     */
+    @Override
+    public void reset() {
+        handlerLatency.reset();
+        applyLatency.reset();
+        tickLatency.reset();
+        updates = 0;
+        titleUpdates = 0;
+        scoreUpdates = 0;
+        scoreResets = 0;
+        teamsCreated = 0;
+        teamsRemoved = 0;
+        teamEntriesAdded = 0;
+        teamEntriesRemoved = 0;
+    }
+
+}
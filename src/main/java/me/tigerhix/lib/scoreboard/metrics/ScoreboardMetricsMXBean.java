@@ -0,0 +1,46 @@
+package me.tigerhix.lib.scoreboard.metrics;
+
+/**
+ * The management interface {@link ScoreboardMetrics} are exposed through on the platform MBean server.
+ *
+ * @author TigerHix
+ */
+public interface ScoreboardMetricsMXBean {
+
+    long getUpdates();
+
+    long getTitleUpdates();
+
+    long getScoreUpdates();
+
+    long getScoreResets();
+
+    long getTeamsCreated();
+
+    long getTeamsRemoved();
+
+    long getTeamEntriesAdded();
+
+    long getTeamEntriesRemoved();
+
+    long getTeamCount();
+
+    long getFakePlayerCount();
+
+    double getHandlerMeanMicros();
+
+    double getHandlerP99Micros();
+
+    double getApplyMeanMicros();
+
+    double getApplyP99Micros();
+
+    double getTickMeanMicros();
+
+    double getTickP99Micros();
+
+    double getTickMaxMicros();
+
+    void reset();
+
+}
@@ -0,0 +1,132 @@
+package me.tigerhix.lib.scoreboard.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fans every operation out to a group of renderers. The displayed state is kept so renderers added later are brought
+ * up to date right away.
+ *
+ * @author TigerHix
+ */
+public class BroadcastRenderer implements ScoreboardRenderer {
+
+    private final List<ScoreboardRenderer> renderers = new ArrayList<>();
+    private final Map<String, Integer> scores = new LinkedHashMap<>();
+    private final Map<String, String[]> teams = new LinkedHashMap<>();
+    private final Map<String, String> entryTeams = new LinkedHashMap<>();
+
+    private boolean shown;
+    private String title;
+
+    /**
+     * Add a renderer to the group, replaying the current state to it if the group is shown.
+     *
+     * @param renderer renderer
+     */
+    public void addRenderer(ScoreboardRenderer renderer) {
+        renderers.add(renderer);
+        if (!shown) return;
+        renderer.show();
+        if (title != null) renderer.setTitle(title);
+        for (Map.Entry<String, String[]> team : teams.entrySet()) {
+            renderer.createTeam(team.getKey(), team.getValue()[0], team.getValue()[1]);
+        }
+        for (Map.Entry<String, String> entryTeam : entryTeams.entrySet()) {
+            renderer.addTeamEntry(entryTeam.getValue(), entryTeam.getKey());
+        }
+        for (Map.Entry<String, Integer> score : scores.entrySet()) {
+            renderer.setScore(score.getKey(), score.getValue());
+        }
+    }
+
+    /**
+     * Remove a renderer from the group, hiding the sidebar from it.
+     *
+     * @param renderer renderer
+     */
+    public void removeRenderer(ScoreboardRenderer renderer) {
+        if (renderers.remove(renderer) && shown) renderer.hide();
+    }
+
+    public List<ScoreboardRenderer> getRenderers() {
+        return Collections.unmodifiableList(renderers);
+    }
+
+    @Override
+    public void show() {
+        shown = true;
+        for (ScoreboardRenderer renderer : renderers) {
+            renderer.show();
+        }
+    }
+
+    @Override
+    public void hide() {
+        shown = false;
+        for (ScoreboardRenderer renderer : renderers) {
+            renderer.hide();
+        }
+    }
+
+    @Override
+    public void setTitle(String title) {
+        this.title = title;
+        for (ScoreboardRenderer renderer : renderers) {
+            renderer.setTitle(title);
+        }
+    }
+
+    @Override
+    public void setScore(String entry, int score) {
+        scores.put(entry, score);
+        for (ScoreboardRenderer renderer : renderers) {
+            renderer.setScore(entry, score);
+        }
+    }
+
+    @Override
+    public void resetScore(String entry) {
+        scores.remove(entry);
+        for (ScoreboardRenderer renderer : renderers) {
+            renderer.resetScore(entry);
+        }
+    }
+
+    @Override
+    public void createTeam(String team, String prefix, String suffix) {
+        teams.put(team, new String[]{prefix, suffix});
+        for (ScoreboardRenderer renderer : renderers) {
+            renderer.createTeam(team, prefix, suffix);
+        }
+    }
+
+    @Override
+    public void removeTeam(String team) {
+        teams.remove(team);
+        entryTeams.values().removeAll(Collections.singleton(team));
+        for (ScoreboardRenderer renderer : renderers) {
+            renderer.removeTeam(team);
+        }
+    }
+
+    @Override
+    public void addTeamEntry(String team, String entry) {
+        entryTeams.put(entry, team);
+        for (ScoreboardRenderer renderer : renderers) {
+            renderer.addTeamEntry(team, entry);
+        }
+    }
+
+    @Override
+    public void removeTeamEntry(String team, String entry) {
+        entryTeams.remove(entry);
+        for (ScoreboardRenderer renderer : renderers) {
+            renderer.removeTeamEntry(team, entry);
+        }
+    }
+
+}
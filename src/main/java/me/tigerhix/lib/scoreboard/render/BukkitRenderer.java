@@ -0,0 +1,282 @@
+package me.tigerhix.lib.scoreboard.render;
+
+import me.tigerhix.lib.scoreboard.ScoreboardLib;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Renders through a Bukkit scoreboard taken from a {@link ScoreboardPool} when shown or first accessed, and given back
+ * when hidden.
+ *
+ * @author TigerHix
+ */
+public class BukkitRenderer implements SwappableRenderer {
+
+    private final Player holder;
+    private final ScoreboardPool pool;
+    private final TeamMirror mirror;
+    private final Map<String, Team> teams = new HashMap<>();
+    private final Set<String> buffered = new HashSet<>();
+
+    private ScoreboardPool.PooledScoreboard pooled;
+    private Objective buffer;
+
+    public BukkitRenderer(Player holder) {
+        this(holder, ScoreboardLib.getScoreboardPool());
+    }
+
+    /**
+     * Create a renderer taking its Bukkit scoreboard from the given pool when shown, and giving it back when hidden.
+     *
+     * @param holder holder
+     * @param pool   pool
+     */
+    public BukkitRenderer(Player holder, ScoreboardPool pool) {
+        this(holder, pool, ScoreboardLib.getTeamMirror());
+    }
+
+    /**
+     * Create a renderer taking its Bukkit scoreboard from the given pool, with the teams of the given mirror copied onto
+     * it while shown.
+     *
+     * @param holder holder
+     * @param pool   pool
+     * @param mirror team mirror, or null to not mirror any team
+     */
+    public BukkitRenderer(Player holder, ScoreboardPool pool, TeamMirror mirror) {
+        this.holder = holder;
+        this.pool = pool;
+        this.mirror = mirror;
+    }
+
+    @Override
+    public void show() {
+        acquire();
+        if (mirror != null) mirror.attach(pooled.scoreboard);
+        holder.setScoreboard(pooled.scoreboard);
+    }
+
+    @Override
+    public void hide() {
+        if (pooled == null) return;
+        // Set to the main scoreboard
+        if (holder.isOnline()) {
+            holder.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+        }
+        // Nothing displays the scoreboard anymore, so it can be cleaned and reused
+        if (buffer != null) buffer.unregister();
+        buffer = null;
+        buffered.clear();
+        if (mirror != null) mirror.detach(pooled.scoreboard);
+        pool.release(pooled, teams.values());
+        teams.clear();
+        pooled = null;
+    }
+
+    @Override
+    public void setTitle(String title) {
+        if (pooled == null) return;
+        (buffer != null ? buffer : pooled.objective).setDisplayName(title);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void setScore(String entry, int score) {
+        if (pooled == null) return;
+        if (buffer != null) {
+            buffer.getScore(new EntryPlayer(entry)).setScore(score);
+            buffered.add(entry);
+        } else {
+            pooled.objective.getScore(new EntryPlayer(entry)).setScore(score);
+        }
+    }
+
+    @Override
+    public void resetScore(String entry) {
+        if (pooled == null) return;
+        // Scores are reset on every objective, leave the displayed one alone while the buffer is being built
+        if (buffer != null && !buffered.remove(entry)) return;
+        pooled.scoreboard.resetScores(entry);
+    }
+
+    @Override
+    public void beginSwap() {
+        if (pooled == null || buffer != null) return;
+        buffer = pooled.scoreboard.registerNewObjective("board" + pooled.objectiveCounter++, "dummy");
+        buffer.setDisplayName(pooled.objective.getDisplayName());
+    }
+
+    @Override
+    public void commitSwap() {
+        if (buffer == null) return;
+        buffer.setDisplaySlot(DisplaySlot.SIDEBAR);
+        pooled.objective.unregister();
+        pooled.objective = buffer;
+        buffer = null;
+        buffered.clear();
+    }
+
+    @Override
+    public void createTeam(String team, String prefix, String suffix) {
+        if (pooled == null) return;
+        teams.put(team, pooled.team(prefix, suffix));
+    }
+
+    @Override
+    public void removeTeam(String team) {
+        Team removed = teams.remove(team);
+        if (removed == null) return;
+        Set<String> entries = removed.getEntries();
+        pooled.recycle(removed);
+        for (String entry : entries) {
+            release(entry);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void addTeamEntry(String team, String entry) {
+        Team other = teams.get(team);
+        if (other != null) other.addPlayer(new EntryPlayer(entry));
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void removeTeamEntry(String team, String entry) {
+        Team other = teams.get(team);
+        if (other == null) return;
+        other.removePlayer(new EntryPlayer(entry));
+        release(entry);
+    }
+
+    private void release(String entry) {
+        // The entry may belong to a team mirrored from the main scoreboard
+        if (mirror != null) mirror.release(pooled.scoreboard, entry);
+    }
+
+    /**
+     * Returns the displayed objective, taking the Bukkit scoreboard from the pool if there is none yet.
+     *
+     * @return objective
+     */
+    public Objective getObjective() {
+        return acquire().objective;
+    }
+
+    /**
+     * Returns the Bukkit scoreboard, taking it from the pool if there is none yet. Teams and objectives registered on it
+     * are unregistered when it is given back.
+     *
+     * @return scoreboard
+     */
+    public Scoreboard getScoreboard() {
+        return acquire().scoreboard;
+    }
+
+    private ScoreboardPool.PooledScoreboard acquire() {
+        if (pooled == null) pooled = pool.acquire();
+        return pooled;
+    }
+
+    private static class EntryPlayer implements OfflinePlayer {
+
+        private final String name;
+
+        EntryPlayer(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean isOnline() {
+            return true;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public UUID getUniqueId() {
+            return UUID.randomUUID();
+        }
+
+        @Override
+        public boolean isBanned() {
+            return false;
+        }
+
+        @Override
+        public void setBanned(boolean banned) {
+        }
+
+        @Override
+        public boolean isWhitelisted() {
+            return false;
+        }
+
+        @Override
+        public void setWhitelisted(boolean whitelisted) {
+        }
+
+        @Override
+        public Player getPlayer() {
+            return null;
+        }
+
+        @Override
+        public long getFirstPlayed() {
+            return 0;
+        }
+
+        @Override
+        public long getLastPlayed() {
+            return 0;
+        }
+
+        @Override
+        public boolean hasPlayedBefore() {
+            return false;
+        }
+
+        @Override
+        public Location getBedSpawnLocation() {
+            return null;
+        }
+
+        @Override
+        public Map<String, Object> serialize() {
+            return null;
+        }
+
+        @Override
+        public boolean isOp() {
+            return false;
+        }
+
+        @Override
+        public void setOp(boolean op) {
+        }
+
+        @Override
+        public String toString() {
+            return "EntryPlayer{" +
+                    "name='" + name + '\'' +
+                    '}';
+        }
+
+    }
+
+}
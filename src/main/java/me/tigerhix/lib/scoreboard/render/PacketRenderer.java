@@ -0,0 +1,122 @@
+package me.tigerhix.lib.scoreboard.render;
+
+import org.bukkit.entity.Player;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Renders by sending objective, score and team packets straight to the holder, without keeping any server-side
+ * scoreboard objects. The holder keeps the scoreboard the server assigned to them, the sidebar only exists on the client.
+ *
+ * @author TigerHix
+ */
+public class PacketRenderer implements SwappableRenderer {
+
+    private static final String OBJECTIVE_PREFIX = "Sidebar_";
+    private static int OBJECTIVE_COUNTER = 0;
+
+    private final Player holder;
+    private final PacketSender sender;
+    private final Set<String> teams = new HashSet<>();
+
+    private String objective;
+    private String buffer;
+    private String title = "";
+    private boolean shown;
+
+    public PacketRenderer(Player holder, PacketSender sender) {
+        this.holder = holder;
+        this.sender = sender;
+        this.objective = OBJECTIVE_PREFIX + OBJECTIVE_COUNTER++;
+    }
+
+    @Override
+    public void show() {
+        if (shown) return;
+        shown = true;
+        send(ScoreboardPacket.createObjective(objective, title));
+        send(ScoreboardPacket.displaySidebar(objective));
+    }
+
+    @Override
+    public void hide() {
+        if (!shown) return;
+        // Removing the objective removes its scores on the client as well
+        if (holder.isOnline()) {
+            send(ScoreboardPacket.removeObjective(objective));
+            if (buffer != null) send(ScoreboardPacket.removeObjective(buffer));
+            for (String team : teams) {
+                send(ScoreboardPacket.removeTeam(team));
+            }
+        }
+        shown = false;
+        buffer = null;
+        teams.clear();
+    }
+
+    @Override
+    public void setTitle(String title) {
+        this.title = title;
+        send(ScoreboardPacket.updateObjective(buffer != null ? buffer : objective, title));
+    }
+
+    @Override
+    public void setScore(String entry, int score) {
+        send(ScoreboardPacket.updateScore(buffer != null ? buffer : objective, entry, score));
+    }
+
+    @Override
+    public void resetScore(String entry) {
+        send(ScoreboardPacket.removeScore(buffer != null ? buffer : objective, entry));
+    }
+
+    @Override
+    public void beginSwap() {
+        if (buffer != null) return;
+        buffer = OBJECTIVE_PREFIX + OBJECTIVE_COUNTER++;
+        send(ScoreboardPacket.createObjective(buffer, title));
+    }
+
+    @Override
+    public void commitSwap() {
+        if (buffer == null) return;
+        send(ScoreboardPacket.displaySidebar(buffer));
+        send(ScoreboardPacket.removeObjective(objective));
+        objective = buffer;
+        buffer = null;
+    }
+
+    @Override
+    public void createTeam(String team, String prefix, String suffix) {
+        teams.add(team);
+        send(ScoreboardPacket.createTeam(team, prefix, suffix));
+    }
+
+    @Override
+    public void removeTeam(String team) {
+        if (teams.remove(team)) send(ScoreboardPacket.removeTeam(team));
+    }
+
+    @Override
+    public void addTeamEntry(String team, String entry) {
+        send(ScoreboardPacket.addTeamEntries(team, Collections.singleton(entry)));
+    }
+
+    @Override
+    public void removeTeamEntry(String team, String entry) {
+        if (teams.contains(team)) send(ScoreboardPacket.removeTeamEntries(team, Collections.singleton(entry)));
+    }
+
+    public String getObjectiveName() {
+        return objective;
+    }
+
+    private void send(ScoreboardPacket packet) {
+        // Nothing is displayed while hidden, so there is nothing to keep in sync either
+        if (!shown) return;
+        sender.send(holder, packet);
+    }
+
+}
@@ -0,0 +1,21 @@
+package me.tigerhix.lib.scoreboard.render;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Represents the bridge that writes {@link ScoreboardPacket}s to a player's connection, e.g. through ProtocolLib or
+ * the server internals of the running version.
+ *
+ * @author TigerHix
+ */
+public interface PacketSender {
+
+    /**
+     * Send the packet to the player.
+     *
+     * @param player player
+     * @param packet packet
+     */
+    void send(Player player, ScoreboardPacket packet);
+
+}
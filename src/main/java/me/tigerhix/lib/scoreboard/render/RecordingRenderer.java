@@ -0,0 +1,172 @@
+package me.tigerhix.lib.scoreboard.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A stand-in renderer that records every operation and keeps a model of what the client would display, so scoreboards
+ * can be exercised without a server. Like a client, it ignores the operations while hidden, and displays nothing but
+ * what is sent after it is shown again.
+ *
+ * @author TigerHix
+ */
+public class RecordingRenderer implements SwappableRenderer {
+
+    private final List<String> operations = new ArrayList<>();
+    private final Map<String, Integer> scores = new HashMap<>();
+    private final Map<String, String[]> teams = new HashMap<>();
+    private final Map<String, String> entryTeams = new HashMap<>();
+
+    private Map<String, Integer> buffer;
+    private boolean shown;
+    private String title = "";
+    private String bufferTitle;
+
+    @Override
+    public void show() {
+        shown = true;
+        operations.add("show");
+    }
+
+    @Override
+    public void hide() {
+        shown = false;
+        scores.clear();
+        teams.clear();
+        entryTeams.clear();
+        buffer = null;
+        title = "";
+        operations.add("hide");
+    }
+
+    @Override
+    public void setTitle(String title) {
+        operations.add("title " + title);
+        if (!shown) return;
+        if (buffer != null) {
+            bufferTitle = title;
+        } else {
+            this.title = title;
+        }
+    }
+
+    @Override
+    public void setScore(String entry, int score) {
+        operations.add("score " + entry + " " + score);
+        if (shown) (buffer != null ? buffer : scores).put(entry, score);
+    }
+
+    @Override
+    public void resetScore(String entry) {
+        operations.add("reset " + entry);
+        if (shown) (buffer != null ? buffer : scores).remove(entry);
+    }
+
+    @Override
+    public void beginSwap() {
+        if (!shown || buffer != null) return;
+        buffer = new HashMap<>();
+        bufferTitle = title;
+        operations.add("swap begin");
+    }
+
+    @Override
+    public void commitSwap() {
+        if (buffer == null) return;
+        scores.clear();
+        scores.putAll(buffer);
+        title = bufferTitle;
+        buffer = null;
+        operations.add("swap commit");
+    }
+
+    @Override
+    public void createTeam(String team, String prefix, String suffix) {
+        operations.add("team " + team + " " + prefix + " " + suffix);
+        if (!shown) return;
+        if (teams.containsKey(team)) throw new IllegalArgumentException("Team " + team + " already exists");
+        teams.put(team, new String[]{prefix, suffix});
+    }
+
+    @Override
+    public void removeTeam(String team) {
+        operations.add("unteam " + team);
+        if (!shown) return;
+        if (teams.remove(team) == null) throw new IllegalArgumentException("Team " + team + " does not exist");
+        entryTeams.values().removeAll(Collections.singleton(team));
+    }
+
+    @Override
+    public void addTeamEntry(String team, String entry) {
+        operations.add("join " + team + " " + entry);
+        if (!shown) return;
+        if (!teams.containsKey(team)) throw new IllegalArgumentException("Team " + team + " does not exist");
+        entryTeams.put(entry, team);
+    }
+
+    @Override
+    public void removeTeamEntry(String team, String entry) {
+        operations.add("leave " + team + " " + entry);
+        if (shown) entryTeams.remove(entry);
+    }
+
+    /**
+     * Returns the recorded operations, in the order they were performed.
+     *
+     * @return operations
+     */
+    public List<String> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Forget the recorded operations, keeping the displayed state.
+     */
+    public void clearOperations() {
+        operations.clear();
+    }
+
+    public boolean isShown() {
+        return shown;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getTeamCount() {
+        return teams.size();
+    }
+
+    /**
+     * Returns the lines the client would display, from top to bottom, with team prefixes and suffixes applied.
+     *
+     * @return lines
+     */
+    public List<String> getLines() {
+        List<Map.Entry<String, Integer>> sorted = new ArrayList<>(scores.entrySet());
+        Collections.sort(sorted, new Comparator<Map.Entry<String, Integer>>() {
+            @Override
+            public int compare(Map.Entry<String, Integer> first, Map.Entry<String, Integer> second) {
+                int result = Integer.compare(second.getValue(), first.getValue());
+                return result != 0 ? result : first.getKey().compareTo(second.getKey());
+            }
+        });
+        List<String> lines = new ArrayList<>(sorted.size());
+        for (Map.Entry<String, Integer> score : sorted) {
+            String team = entryTeams.get(score.getKey());
+            if (team == null) {
+                lines.add(score.getKey());
+            } else {
+                String[] affixes = teams.get(team);
+                lines.add(affixes[0] + score.getKey() + affixes[1]);
+            }
+        }
+        return lines;
+    }
+
+}
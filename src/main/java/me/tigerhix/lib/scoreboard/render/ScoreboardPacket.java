@@ -0,0 +1,135 @@
+package me.tigerhix.lib.scoreboard.render;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Represents a single scoreboard packet, mirroring the objective, display, score and team packets of the protocol.
+ *
+ * @author TigerHix
+ */
+public final class ScoreboardPacket {
+
+    private final Type type;
+    private final String name;
+    private final String value;
+    private final int score;
+    private final String prefix;
+    private final String suffix;
+    private final Collection<String> entries;
+
+    private ScoreboardPacket(Type type, String name, String value, int score, String prefix, String suffix, Collection<String> entries) {
+        this.type = type;
+        this.name = name;
+        this.value = value;
+        this.score = score;
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.entries = entries;
+    }
+
+    public static ScoreboardPacket createObjective(String objective, String displayName) {
+        return new ScoreboardPacket(Type.CREATE_OBJECTIVE, objective, displayName, 0, null, null, Collections.<String>emptySet());
+    }
+
+    public static ScoreboardPacket updateObjective(String objective, String displayName) {
+        return new ScoreboardPacket(Type.UPDATE_OBJECTIVE, objective, displayName, 0, null, null, Collections.<String>emptySet());
+    }
+
+    public static ScoreboardPacket removeObjective(String objective) {
+        return new ScoreboardPacket(Type.REMOVE_OBJECTIVE, objective, null, 0, null, null, Collections.<String>emptySet());
+    }
+
+    public static ScoreboardPacket displaySidebar(String objective) {
+        return new ScoreboardPacket(Type.DISPLAY_SIDEBAR, objective, null, 0, null, null, Collections.<String>emptySet());
+    }
+
+    public static ScoreboardPacket updateScore(String objective, String entry, int score) {
+        return new ScoreboardPacket(Type.UPDATE_SCORE, objective, entry, score, null, null, Collections.<String>emptySet());
+    }
+
+    public static ScoreboardPacket removeScore(String objective, String entry) {
+        return new ScoreboardPacket(Type.REMOVE_SCORE, objective, entry, 0, null, null, Collections.<String>emptySet());
+    }
+
+    public static ScoreboardPacket createTeam(String team, String prefix, String suffix) {
+        return new ScoreboardPacket(Type.CREATE_TEAM, team, null, 0, prefix, suffix, Collections.<String>emptySet());
+    }
+
+    public static ScoreboardPacket removeTeam(String team) {
+        return new ScoreboardPacket(Type.REMOVE_TEAM, team, null, 0, null, null, Collections.<String>emptySet());
+    }
+
+    public static ScoreboardPacket addTeamEntries(String team, Collection<String> entries) {
+        return new ScoreboardPacket(Type.ADD_TEAM_ENTRIES, team, null, 0, null, null, entries);
+    }
+
+    public static ScoreboardPacket removeTeamEntries(String team, Collection<String> entries) {
+        return new ScoreboardPacket(Type.REMOVE_TEAM_ENTRIES, team, null, 0, null, null, entries);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the objective name, or the team name for team packets.
+     *
+     * @return name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the display name for objective packets, or the entry for score packets.
+     *
+     * @return value
+     */
+    public String getValue() {
+        return value;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    public Collection<String> getEntries() {
+        return entries;
+    }
+
+    @Override
+    public String toString() {
+        return "ScoreboardPacket{" +
+                "type=" + type +
+                ", name='" + name + '\'' +
+                ", value='" + value + '\'' +
+                ", score=" + score +
+                ", prefix='" + prefix + '\'' +
+                ", suffix='" + suffix + '\'' +
+                ", entries=" + entries +
+                '}';
+    }
+
+    public enum Type {
+        CREATE_OBJECTIVE,
+        UPDATE_OBJECTIVE,
+        REMOVE_OBJECTIVE,
+        DISPLAY_SIDEBAR,
+        UPDATE_SCORE,
+        REMOVE_SCORE,
+        CREATE_TEAM,
+        REMOVE_TEAM,
+        ADD_TEAM_ENTRIES,
+        REMOVE_TEAM_ENTRIES
+    }
+
+}
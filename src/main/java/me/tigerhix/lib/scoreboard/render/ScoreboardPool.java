@@ -0,0 +1,157 @@
+package me.tigerhix.lib.scoreboard.render;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * A bounded pool of Bukkit scoreboards for {@link BukkitRenderer}. A released scoreboard is cleaned to a single empty
+ * sidebar objective, and the teams of the library are kept for reuse, so players cycling through boards do not create new
+ * scoreboards, objectives and teams every time. Objectives and teams registered by others are unregistered.
+ *
+ * @author TigerHix
+ */
+public final class ScoreboardPool {
+
+    private static final int MAX_FREE_TEAMS = 32;
+
+    private final Deque<PooledScoreboard> pool = new ArrayDeque<>();
+
+    private int maxSize;
+    private long created;
+    private long reused;
+
+    /**
+     * Create a pool keeping at most the given amount of unused scoreboards. A maximum of 0 disables pooling.
+     *
+     * @param maxSize maximum size
+     */
+    public ScoreboardPool(int maxSize) {
+        setMaxSize(maxSize);
+    }
+
+    /**
+     * Set the maximum amount of unused scoreboards kept, dropping the ones above it.
+     *
+     * @param maxSize maximum size
+     */
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 0) throw new IllegalArgumentException("Pool size cannot be negative");
+        this.maxSize = maxSize;
+        while (pool.size() > maxSize) pool.poll();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the amount of unused scoreboards currently kept.
+     *
+     * @return size
+     */
+    public int getSize() {
+        return pool.size();
+    }
+
+    /**
+     * Returns the amount of scoreboards created because the pool was empty.
+     *
+     * @return created count
+     */
+    public long getCreatedCount() {
+        return created;
+    }
+
+    /**
+     * Returns the amount of scoreboards taken from the pool instead of created.
+     *
+     * @return reused count
+     */
+    public long getReusedCount() {
+        return reused;
+    }
+
+    PooledScoreboard acquire() {
+        PooledScoreboard pooled = pool.poll();
+        if (pooled != null) {
+            reused++;
+            return pooled;
+        }
+        created++;
+        Scoreboard scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
+        Objective objective = scoreboard.registerNewObjective("board", "dummy");
+        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+        return new PooledScoreboard(scoreboard, objective);
+    }
+
+    void release(PooledScoreboard pooled, Collection<Team> teams) {
+        if (pool.size() >= maxSize) return;
+        Scoreboard scoreboard = pooled.scoreboard;
+        // Clean to an empty sidebar, keeping the objective and the teams
+        for (String entry : new ArrayList<>(scoreboard.getEntries())) {
+            scoreboard.resetScores(entry);
+        }
+        for (Objective objective : new ArrayList<>(scoreboard.getObjectives())) {
+            if (objective != pooled.objective) objective.unregister();
+        }
+        pooled.objective.setDisplayName("");
+        pooled.objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+        for (Team team : teams) {
+            pooled.recycle(team);
+        }
+        // Unregister the teams registered from outside the library
+        for (Team team : new ArrayList<>(scoreboard.getTeams())) {
+            if (!pooled.freeTeams.contains(team)) team.unregister();
+        }
+        pool.push(pooled);
+    }
+
+    /**
+     * A Bukkit scoreboard with its displayed objective and the teams free for reuse.
+     */
+    static class PooledScoreboard {
+
+        final Scoreboard scoreboard;
+        final Deque<Team> freeTeams = new ArrayDeque<>();
+
+        Objective objective;
+        int objectiveCounter = 1;
+        int teamCounter;
+
+        PooledScoreboard(Scoreboard scoreboard, Objective objective) {
+            this.scoreboard = scoreboard;
+            this.objective = objective;
+        }
+
+        Team team(String prefix, String suffix) {
+            Team team = freeTeams.poll();
+            if (team == null) team = scoreboard.registerNewTeam("Pooled_" + teamCounter++);
+            team.setPrefix(prefix);
+            team.setSuffix(suffix);
+            return team;
+        }
+
+        @SuppressWarnings("deprecation")
+        void recycle(Team team) {
+            if (freeTeams.size() >= MAX_FREE_TEAMS) {
+                team.unregister();
+                return;
+            }
+            for (OfflinePlayer player : new ArrayList<>(team.getPlayers())) {
+                team.removePlayer(player);
+            }
+            freeTeams.push(team);
+        }
+
+    }
+
+}
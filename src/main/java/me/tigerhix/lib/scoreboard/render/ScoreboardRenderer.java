@@ -0,0 +1,77 @@
+package me.tigerhix.lib.scoreboard.render;
+
+/**
+ * Represents the output of a scoreboard. The scoreboard decides which lines and teams are needed, the renderer only
+ * carries the resulting operations to the player.
+ * <p>
+ * Entries and teams are referred to by name, so a renderer is free to keep server-side objects or none at all.
+ *
+ * @author TigerHix
+ */
+public interface ScoreboardRenderer {
+
+    /**
+     * Show the sidebar to the holder.
+     */
+    void show();
+
+    /**
+     * Remove the sidebar from the holder.
+     */
+    void hide();
+
+    /**
+     * Set the title of the sidebar.
+     *
+     * @param title title
+     */
+    void setTitle(String title);
+
+    /**
+     * Set the score of an entry, adding the entry to the sidebar if needed.
+     *
+     * @param entry entry
+     * @param score score
+     */
+    void setScore(String entry, int score);
+
+    /**
+     * Remove an entry from the sidebar.
+     *
+     * @param entry entry
+     */
+    void resetScore(String entry);
+
+    /**
+     * Create a team with the given prefix and suffix.
+     *
+     * @param team   team name
+     * @param prefix prefix
+     * @param suffix suffix
+     */
+    void createTeam(String team, String prefix, String suffix);
+
+    /**
+     * Remove a team previously created by {@link #createTeam(String, String, String)}.
+     *
+     * @param team team name
+     */
+    void removeTeam(String team);
+
+    /**
+     * Add an entry to a team.
+     *
+     * @param team  team name
+     * @param entry entry
+     */
+    void addTeamEntry(String team, String entry);
+
+    /**
+     * Remove an entry from a team.
+     *
+     * @param team  team name
+     * @param entry entry
+     */
+    void removeTeamEntry(String team, String entry);
+
+}
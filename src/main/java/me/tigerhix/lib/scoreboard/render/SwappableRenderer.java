@@ -0,0 +1,22 @@
+package me.tigerhix.lib.scoreboard.render;
+
+/**
+ * A renderer that can build a complete sidebar out of sight and then display it in one step, so a large rewrite shows
+ * up as a single switch instead of a burst of single line changes.
+ *
+ * @author TigerHix
+ */
+public interface SwappableRenderer extends ScoreboardRenderer {
+
+    /**
+     * Start building a hidden sidebar, which has the current title and no scores. Until {@link #commitSwap()}, the title
+     * and scores are set on the hidden sidebar only; teams are shared by both.
+     */
+    void beginSwap();
+
+    /**
+     * Display the hidden sidebar in place of the current one, which is discarded.
+     */
+    void commitSwap();
+
+}
@@ -0,0 +1,360 @@
+package me.tigerhix.lib.scoreboard.render;
+
+import me.tigerhix.lib.scoreboard.ScoreboardLib;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scoreboard.NameTagVisibility;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+
+/**
+ * Keeps copies of selected teams of the main scoreboard on the scoreboards shown by {@link BukkitRenderer}, so nametags
+ * and colours set up by other plugins stay visible to players with a sidebar.
+ * <p>
+ * Bukkit has no events for team changes, so while there are copies, a task compares the main scoreboard against the last
+ * known state every update interval, and only the differences are applied to the copies. Call {@link #update()} after
+ * changing a team to apply it right away. Teams created by the library itself are never mirrored, and entries shown
+ * through them are left alone until the library releases them.
+ *
+ * @author TigerHix
+ */
+public final class TeamMirror {
+
+    private static final String[] LIBRARY_TEAM_PREFIXES = {"Scoreboard_", "Override_", "Pooled_"};
+
+    private final Set<String> selected = new HashSet<>();
+    private final Map<String, MirroredTeam> mirrored = new HashMap<>();
+    private final Set<Scoreboard> replicas = Collections.newSetFromMap(new IdentityHashMap<Scoreboard, Boolean>());
+    private final Map<String, String> entryTeams = new HashMap<>();
+
+    private boolean all;
+    private long updateInterval = 20;
+    private long changes;
+    private BukkitRunnable task;
+
+    /**
+     * Mirror the teams of the main scoreboard with the given names.
+     *
+     * @param teams team names
+     * @return this
+     */
+    public TeamMirror mirror(String... teams) {
+        Collections.addAll(selected, teams);
+        return this;
+    }
+
+    /**
+     * Mirror every team of the main scoreboard.
+     *
+     * @return this
+     */
+    public TeamMirror mirrorAll() {
+        all = true;
+        return this;
+    }
+
+    /**
+     * Stop mirroring the teams with the given names. Their copies are removed on the next update.
+     *
+     * @param teams team names
+     * @return this
+     */
+    public TeamMirror unmirror(String... teams) {
+        for (String team : teams) {
+            selected.remove(team);
+        }
+        return this;
+    }
+
+    /**
+     * Stop mirroring any team. The copies are removed on the next update.
+     *
+     * @return this
+     */
+    public TeamMirror unmirrorAll() {
+        all = false;
+        selected.clear();
+        return this;
+    }
+
+    /**
+     * Determine if the team with the given name is mirrored.
+     *
+     * @param team team name
+     * @return mirrored
+     */
+    public boolean isMirrored(String team) {
+        return !isLibraryTeam(team) && (all || selected.contains(team));
+    }
+
+    /**
+     * Set the interval in ticks at which the main scoreboard is checked for changes (default = 20).
+     *
+     * @param updateInterval update interval
+     */
+    public void setUpdateInterval(long updateInterval) {
+        if (updateInterval < 1) throw new IllegalArgumentException("Update interval must be at least 1");
+        this.updateInterval = updateInterval;
+        // Restart a running task with the new interval
+        if (task != null) {
+            stop();
+            start();
+        }
+    }
+
+    public long getUpdateInterval() {
+        return updateInterval;
+    }
+
+    /**
+     * Returns the amount of teams currently mirrored.
+     *
+     * @return mirrored count
+     */
+    public int getMirroredCount() {
+        return mirrored.size();
+    }
+
+    /**
+     * Returns the amount of scoreboards the teams are mirrored to.
+     *
+     * @return replica count
+     */
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    /**
+     * Returns the amount of team changes found on the main scoreboard so far.
+     *
+     * @return change count
+     */
+    public long getChangeCount() {
+        return changes;
+    }
+
+    /**
+     * Compare the mirrored teams against the main scoreboard, and apply what changed to every copy.
+     */
+    public void update() {
+        if (replicas.isEmpty() || (!all && selected.isEmpty() && mirrored.isEmpty())) return;
+        sync();
+    }
+
+    void attach(Scoreboard replica) {
+        // The last known state is not kept up to date while nothing is mirrored to
+        if (replicas.isEmpty() && (all || !selected.isEmpty())) sync();
+        if (!replicas.add(replica)) return;
+        for (MirroredTeam team : mirrored.values()) {
+            create(replica, team);
+        }
+        start();
+    }
+
+    void detach(Scoreboard replica) {
+        if (!replicas.remove(replica)) return;
+        for (MirroredTeam team : mirrored.values()) {
+            remove(replica, team.name);
+        }
+        if (replicas.isEmpty()) stop();
+    }
+
+    void release(Scoreboard replica, String entry) {
+        if (!replicas.contains(replica)) return;
+        // Give an entry released by the library back to its mirrored team
+        String name = entryTeams.get(entry);
+        if (name == null || replica.getEntryTeam(entry) != null) return;
+        Team copy = replica.getTeam(name);
+        if (copy != null) copy.addEntry(entry);
+    }
+
+    private void start() {
+        if (task != null) return;
+        task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                try {
+                    update();
+                } catch (RuntimeException ex) {
+                    ScoreboardLib.getPluginInstance().getLogger().log(Level.SEVERE, "Failed to mirror teams", ex);
+                }
+            }
+        };
+        task.runTaskTimer(ScoreboardLib.getPluginInstance(), updateInterval, updateInterval);
+    }
+
+    private void stop() {
+        if (task == null) return;
+        task.cancel();
+        task = null;
+    }
+
+    private void sync() {
+        Scoreboard main = Bukkit.getScoreboardManager().getMainScoreboard();
+        // Removed, renamed or no longer selected teams
+        Iterator<MirroredTeam> iterator = mirrored.values().iterator();
+        while (iterator.hasNext()) {
+            MirroredTeam team = iterator.next();
+            String name = team.name;
+            if (isMirrored(name) && main.getTeam(name) != null) continue;
+            iterator.remove();
+            for (String entry : team.entries) {
+                forgetEntry(team, entry);
+            }
+            changes++;
+            for (Scoreboard replica : replicas) {
+                remove(replica, name);
+            }
+        }
+        // Created and changed teams
+        if (all) {
+            for (Team team : main.getTeams()) {
+                if (!isLibraryTeam(team.getName())) sync(team);
+            }
+        } else {
+            for (String name : selected) {
+                Team team = main.getTeam(name);
+                if (team != null && !isLibraryTeam(name)) sync(team);
+            }
+        }
+    }
+
+    private void sync(Team source) {
+        MirroredTeam team = mirrored.get(source.getName());
+        if (team == null) {
+            team = new MirroredTeam(source.getName());
+            team.copyOptions(source);
+            for (String entry : source.getEntries()) {
+                team.entries.add(entry);
+                entryTeams.put(entry, team.name);
+            }
+            mirrored.put(team.name, team);
+            changes++;
+            for (Scoreboard replica : replicas) {
+                create(replica, team);
+            }
+            return;
+        }
+        if (!team.hasOptions(source)) {
+            team.copyOptions(source);
+            changes++;
+            for (Scoreboard replica : replicas) {
+                Team copy = replica.getTeam(team.name);
+                if (copy != null) team.applyOptions(copy);
+            }
+        }
+        Set<String> entries = source.getEntries();
+        for (String entry : entries) {
+            if (!team.entries.add(entry)) continue;
+            entryTeams.put(entry, team.name);
+            changes++;
+            for (Scoreboard replica : replicas) {
+                Team copy = replica.getTeam(team.name);
+                if (copy != null) addEntry(replica, copy, entry);
+            }
+        }
+        Iterator<String> iterator = team.entries.iterator();
+        while (iterator.hasNext()) {
+            String entry = iterator.next();
+            if (entries.contains(entry)) continue;
+            iterator.remove();
+            forgetEntry(team, entry);
+            changes++;
+            for (Scoreboard replica : replicas) {
+                Team copy = replica.getTeam(team.name);
+                if (copy != null && copy.hasEntry(entry)) copy.removeEntry(entry);
+            }
+        }
+    }
+
+    private void forgetEntry(MirroredTeam team, String entry) {
+        // The entry may have joined another mirrored team already
+        if (team.name.equals(entryTeams.get(entry))) entryTeams.remove(entry);
+    }
+
+    private void create(Scoreboard replica, MirroredTeam team) {
+        Team copy = replica.getTeam(team.name);
+        if (copy == null) copy = replica.registerNewTeam(team.name);
+        team.applyOptions(copy);
+        for (String entry : team.entries) {
+            addEntry(replica, copy, entry);
+        }
+    }
+
+    private void remove(Scoreboard replica, String name) {
+        Team copy = replica.getTeam(name);
+        if (copy != null) copy.unregister();
+    }
+
+    private void addEntry(Scoreboard replica, Team copy, String entry) {
+        // Lines displayed through the library's own teams keep them, the entry is added once they release it
+        Team current = replica.getEntryTeam(entry);
+        if (current != null && isLibraryTeam(current.getName())) return;
+        copy.addEntry(entry);
+    }
+
+    private static boolean isLibraryTeam(String name) {
+        for (String prefix : LIBRARY_TEAM_PREFIXES) {
+            if (name.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * The last known state of a mirrored team.
+     */
+    private static class MirroredTeam {
+
+        private final String name;
+        private final Set<String> entries = new HashSet<>();
+
+        private String displayName;
+        private String prefix;
+        private String suffix;
+        private boolean friendlyFire;
+        private boolean friendlyInvisibles;
+        private NameTagVisibility nameTagVisibility;
+
+        MirroredTeam(String name) {
+            this.name = name;
+        }
+
+        boolean hasOptions(Team team) {
+            return displayName.equals(team.getDisplayName())
+                    && prefix.equals(team.getPrefix())
+                    && suffix.equals(team.getSuffix())
+                    && friendlyFire == team.allowFriendlyFire()
+                    && friendlyInvisibles == team.canSeeFriendlyInvisibles()
+                    && nameTagVisibility == team.getNameTagVisibility();
+        }
+
+        void copyOptions(Team team) {
+            displayName = team.getDisplayName();
+            prefix = team.getPrefix();
+            suffix = team.getSuffix();
+            friendlyFire = team.allowFriendlyFire();
+            friendlyInvisibles = team.canSeeFriendlyInvisibles();
+            nameTagVisibility = team.getNameTagVisibility();
+        }
+
+        void applyOptions(Team team) {
+            team.setDisplayName(displayName);
+            team.setPrefix(prefix);
+            team.setSuffix(suffix);
+            team.setAllowFriendlyFire(friendlyFire);
+            team.setCanSeeFriendlyInvisibles(friendlyInvisibles);
+            team.setNameTagVisibility(nameTagVisibility);
+        }
+
+    }
+
+}
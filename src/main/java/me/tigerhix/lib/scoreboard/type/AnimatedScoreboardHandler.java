@@ -0,0 +1,23 @@
+package me.tigerhix.lib.scoreboard.type;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Represents a handler whose content only changes at known ticks, e.g. when it is made of
+ * {@link me.tigerhix.lib.scoreboard.common.animate.Animation}s. The scoreboard is updated again at the tick returned
+ * by {@link #getNextChangeTick(Player, long)} even if its update interval has not elapsed yet.
+ *
+ * @author TigerHix
+ */
+public interface AnimatedScoreboardHandler extends ScoreboardHandler {
+
+    /**
+     * Determines the first tick after the given one at which the content for this player changes.
+     *
+     * @param player player
+     * @param tick   current tick
+     * @return tick of the next change, or {@link Long#MAX_VALUE} if unknown
+     */
+    long getNextChangeTick(Player player, long tick);
+
+}
@@ -0,0 +1,14 @@
+package me.tigerhix.lib.scoreboard.type;
+
+/**
+ * Represents a handler whose title and entries are computed off the main thread.
+ * <p>
+ * {@link #getTitle(org.bukkit.entity.Player)} and {@link #getEntries(org.bukkit.entity.Player)} are called from an
+ * asynchronous worker, so implementations must be thread-safe and must not touch the Bukkit API beyond read-only data.
+ * The results are applied to the scoreboard on the main thread at its next update; results that are older than what
+ * has already been applied are dropped. While a computation is still running, updates do not start another one.
+ *
+ * @author TigerHix
+ */
+public interface AsyncScoreboardHandler extends ScoreboardHandler {
+}
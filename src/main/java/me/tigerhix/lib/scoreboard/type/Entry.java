@@ -6,12 +6,37 @@ public class Entry {
 
     private String name;
     private int position;
+    private LineProvider provider;
+    private long refreshInterval;
 
     public Entry(String name, int position) {
-        this.name = Strings.format(name);
+        this(name, position, true);
+    }
+
+    /**
+     * Create an entry, optionally skipping the colour translation of text that is already formatted.
+     *
+     * @param name     text
+     * @param position position
+     * @param format   whether to translate {@code &} colour codes
+     */
+    public Entry(String name, int position, boolean format) {
+        this.name = format ? Strings.format(name) : name;
         this.position = position;
     }
 
+    /**
+     * Create an entry whose text is supplied by a provider, and only refreshed every given amount of ticks.
+     *
+     * @param provider        provider
+     * @param position        position
+     * @param refreshInterval refresh interval
+     */
+    public Entry(LineProvider provider, int position, long refreshInterval) {
+        this("", position, false);
+        setProvider(provider, refreshInterval);
+    }
+
     public String getName() {
         return name;
     }
@@ -28,4 +53,24 @@ public class Entry {
         this.position = position;
     }
 
+    public LineProvider getProvider() {
+        return provider;
+    }
+
+    public long getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    /**
+     * Let the text of this entry be supplied by a provider, or pass null to use the name again.
+     *
+     * @param provider        provider
+     * @param refreshInterval refresh interval
+     */
+    public void setProvider(LineProvider provider, long refreshInterval) {
+        if (provider != null && refreshInterval < 1) throw new IllegalArgumentException("Refresh interval must be at least 1");
+        this.provider = provider;
+        this.refreshInterval = refreshInterval;
+    }
+
 }
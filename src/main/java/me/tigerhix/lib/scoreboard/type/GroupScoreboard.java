@@ -0,0 +1,326 @@
+package me.tigerhix.lib.scoreboard.type;
+
+import me.tigerhix.lib.scoreboard.common.Strings;
+import me.tigerhix.lib.scoreboard.render.BroadcastRenderer;
+import me.tigerhix.lib.scoreboard.render.BukkitRenderer;
+import me.tigerhix.lib.scoreboard.render.ScoreboardRenderer;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Represents a scoreboard shared by a group of players seeing the same content. The title and entries are computed and
+ * diffed once per update, and the resulting operations are sent to every member.
+ * <p>
+ * The content comes from a {@link GroupScoreboardHandler}, asked once for the whole group. Lines supplied by a
+ * {@link LineProvider} are asked with a null player. Single lines can be overridden per member with
+ * {@link #setOverride(Player, int, String)}, which is why stable scores are not supported.
+ *
+ * @author TigerHix
+ */
+public class GroupScoreboard extends SimpleScoreboard {
+
+    // Kept apart from the names of the shared teams, which are sent to the same client
+    private static final String OVERRIDE_TEAM_PREFIX = "Override_";
+
+    private final BroadcastRenderer broadcast;
+    private final Map<UUID, Member> members = new LinkedHashMap<>();
+
+    private GroupScoreboardHandler groupHandler;
+
+    public GroupScoreboard() {
+        this(new BroadcastRenderer());
+    }
+
+    private GroupScoreboard(BroadcastRenderer broadcast) {
+        super(null, broadcast);
+        this.broadcast = broadcast;
+    }
+
+    public GroupScoreboardHandler getGroupHandler() {
+        return groupHandler;
+    }
+
+    /**
+     * Set the handler determining the content shared by the group.
+     *
+     * @param handler handler
+     * @return this
+     */
+    public GroupScoreboard setGroupHandler(final GroupScoreboardHandler handler) {
+        groupHandler = handler;
+        super.setHandler(handler == null ? null : new ScoreboardHandler() {
+            @Override
+            public String getTitle(Player player) {
+                return handler.getTitle();
+            }
+
+            @Override
+            public List<Entry> getEntries(Player player) {
+                return handler.getEntries();
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Not supported, a group has no single player to ask. Use {@link #setGroupHandler(GroupScoreboardHandler)} instead.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public Scoreboard setHandler(ScoreboardHandler handler) {
+        throw new UnsupportedOperationException("Group scoreboards take a GroupScoreboardHandler");
+    }
+
+    /**
+     * Stable scores cannot be enabled for a group, since the overrides of its members refer to positions.
+     *
+     * @throws IllegalArgumentException if stable scores are enabled
+     */
+    @Override
+    public SimpleScoreboard setStableScores(boolean stableScores) {
+        if (stableScores) throw new IllegalArgumentException("Group scoreboards do not support stable scores");
+        return super.setStableScores(false);
+    }
+
+    /**
+     * Add a player to the group, rendering through a Bukkit scoreboard.
+     *
+     * @param player player
+     * @return this
+     */
+    public GroupScoreboard addMember(Player player) {
+        return addMember(player, new BukkitRenderer(player));
+    }
+
+    /**
+     * Add a player to the group, rendering through the given renderer.
+     *
+     * @param player   player
+     * @param renderer renderer
+     * @return this
+     */
+    public GroupScoreboard addMember(Player player, ScoreboardRenderer renderer) {
+        if (members.containsKey(player.getUniqueId())) return this;
+        Member member = new Member(player, renderer);
+        members.put(player.getUniqueId(), member);
+        broadcast.addRenderer(member);
+        return this;
+    }
+
+    /**
+     * Remove a player from the group, hiding the scoreboard from them.
+     *
+     * @param player player
+     * @return this
+     */
+    public GroupScoreboard removeMember(Player player) {
+        Member member = members.remove(player.getUniqueId());
+        if (member != null) broadcast.removeRenderer(member);
+        return this;
+    }
+
+    /**
+     * Returns the members of this group.
+     *
+     * @return members
+     */
+    public List<Player> getMembers() {
+        List<Player> players = new ArrayList<>(members.size());
+        for (Member member : members.values()) {
+            players.add(member.player);
+        }
+        return players;
+    }
+
+    /**
+     * Display different text to a member at the line with the given position. Override text is limited to 32 characters.
+     *
+     * @param player   member
+     * @param position position of the line, as in {@link Entry#getPosition()}
+     * @param text     text
+     */
+    public void setOverride(Player player, int position, String text) {
+        Member member = members.get(player.getUniqueId());
+        if (member == null) throw new IllegalArgumentException(player.getName() + " is not a member of this scoreboard");
+        member.setOverride(position, Strings.format(text));
+    }
+
+    /**
+     * Display the shared line again to a member at the given position.
+     *
+     * @param player   member
+     * @param position position of the line
+     */
+    public void removeOverride(Player player, int position) {
+        Member member = members.get(player.getUniqueId());
+        if (member != null) member.removeOverride(position);
+    }
+
+    @Override
+    public void update() {
+        // Members who quit are removed by the registry, the group itself stays active
+        if (members.isEmpty()) return;
+        render();
+    }
+
+    /**
+     * Passes the shared operations on to the member's renderer, except for lines the member overrides.
+     */
+    private static class Member implements ScoreboardRenderer {
+
+        private final Player player;
+        private final ScoreboardRenderer renderer;
+        private final Map<String, Integer> shared = new HashMap<>();
+        private final Map<Integer, LineOverride> overrides = new HashMap<>();
+        private final Deque<LineOverride> freeOverrides = new ArrayDeque<>();
+
+        private int overrideCounter;
+        private boolean shown;
+
+        Member(Player player, ScoreboardRenderer renderer) {
+            this.player = player;
+            this.renderer = renderer;
+        }
+
+        void setOverride(int position, String text) {
+            if (text.length() > 32) text = text.substring(0, 32);
+            String prefix = text.length() > 16 ? text.substring(0, 16) : text;
+            if (!prefix.isEmpty() && prefix.charAt(prefix.length() - 1) == ChatColor.COLOR_CHAR) prefix = prefix.substring(0, prefix.length() - 1);
+            String suffix = text.substring(prefix.length());
+            if (!suffix.isEmpty()) suffix = ChatColor.getLastColors(prefix) + suffix;
+            if (suffix.length() > 16) suffix = suffix.substring(0, 16);
+            LineOverride override = overrides.get(position);
+            if (override != null) {
+                if (override.prefix.equals(prefix) && override.suffix.equals(suffix)) return;
+                // Recreate the team with the new affixes, the entry keeps its score
+                if (shown) renderer.removeTeam(override.team);
+            } else {
+                // Removed overrides are reused, so their entry and team names stay short
+                override = freeOverrides.poll();
+                if (override == null) override = new LineOverride(Strings.invisibleOverrideName(overrideCounter), OVERRIDE_TEAM_PREFIX + overrideCounter++);
+                overrides.put(position, override);
+                if (shown) {
+                    // Hide the shared line this override replaces
+                    for (Map.Entry<String, Integer> entry : shared.entrySet()) {
+                        if (entry.getValue() == position) renderer.resetScore(entry.getKey());
+                    }
+                    renderer.setScore(override.entry, position);
+                }
+            }
+            override.prefix = prefix;
+            override.suffix = suffix;
+            // Overrides set while hidden are sent once the scoreboard is shown
+            if (!shown) return;
+            renderer.createTeam(override.team, prefix, suffix);
+            renderer.addTeamEntry(override.team, override.entry);
+        }
+
+        void removeOverride(int position) {
+            LineOverride override = overrides.remove(position);
+            if (override == null) return;
+            freeOverrides.push(override);
+            if (!shown) return;
+            renderer.resetScore(override.entry);
+            renderer.removeTeam(override.team);
+            // Show the shared line again
+            for (Map.Entry<String, Integer> entry : shared.entrySet()) {
+                if (entry.getValue() == position) renderer.setScore(entry.getKey(), position);
+            }
+        }
+
+        @Override
+        public void show() {
+            if (shown) return;
+            shown = true;
+            renderer.show();
+            // The renderer starts out empty, send the overrides again
+            for (Map.Entry<Integer, LineOverride> entry : overrides.entrySet()) {
+                LineOverride override = entry.getValue();
+                renderer.createTeam(override.team, override.prefix, override.suffix);
+                renderer.addTeamEntry(override.team, override.entry);
+                renderer.setScore(override.entry, entry.getKey());
+            }
+        }
+
+        @Override
+        public void hide() {
+            if (!shown) return;
+            // Remove the overrides while they can still be removed, they are kept for the next time
+            for (LineOverride override : overrides.values()) {
+                renderer.resetScore(override.entry);
+                renderer.removeTeam(override.team);
+            }
+            shown = false;
+            renderer.hide();
+        }
+
+        @Override
+        public void setTitle(String title) {
+            renderer.setTitle(title);
+        }
+
+        @Override
+        public void setScore(String entry, int score) {
+            Integer old = shared.put(entry, score);
+            if (!overrides.containsKey(score)) {
+                renderer.setScore(entry, score);
+            } else if (old != null && !overrides.containsKey(old)) {
+                // Moved under an override, hide it
+                renderer.resetScore(entry);
+            }
+        }
+
+        @Override
+        public void resetScore(String entry) {
+            Integer old = shared.remove(entry);
+            if (old != null && !overrides.containsKey(old)) renderer.resetScore(entry);
+        }
+
+        @Override
+        public void createTeam(String team, String prefix, String suffix) {
+            renderer.createTeam(team, prefix, suffix);
+        }
+
+        @Override
+        public void removeTeam(String team) {
+            renderer.removeTeam(team);
+        }
+
+        @Override
+        public void addTeamEntry(String team, String entry) {
+            renderer.addTeamEntry(team, entry);
+        }
+
+        @Override
+        public void removeTeamEntry(String team, String entry) {
+            renderer.removeTeamEntry(team, entry);
+        }
+
+    }
+
+    private static class LineOverride {
+
+        private final String entry;
+        private final String team;
+
+        private String prefix;
+        private String suffix;
+
+        LineOverride(String entry, String team) {
+            this.entry = entry;
+            this.team = team;
+        }
+
+    }
+
+}
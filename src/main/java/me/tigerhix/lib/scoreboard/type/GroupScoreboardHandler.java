@@ -0,0 +1,26 @@
+package me.tigerhix.lib.scoreboard.type;
+
+import java.util.List;
+
+/**
+ * Represents the handler to determine the title and entries shared by all members of a {@link GroupScoreboard}.
+ *
+ * @author TigerHix
+ */
+public interface GroupScoreboardHandler {
+
+    /**
+     * Determines the title to display to the group. If null returned, title automatically becomes a blank line.
+     *
+     * @return title
+     */
+    String getTitle();
+
+    /**
+     * Determines the entries to display to the group. If null returned, the entries are not updated.
+     *
+     * @return entries
+     */
+    List<Entry> getEntries();
+
+}
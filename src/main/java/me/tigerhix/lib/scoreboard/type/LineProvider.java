@@ -0,0 +1,21 @@
+package me.tigerhix.lib.scoreboard.type;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Represents the source of a single line that is refreshed on its own interval, independent of the rest of the
+ * scoreboard.
+ *
+ * @author TigerHix
+ */
+public interface LineProvider {
+
+    /**
+     * Determines the text of the line for this player. Always called on the main thread.
+     *
+     * @param player player
+     * @return text
+     */
+    String getLine(Player player);
+
+}
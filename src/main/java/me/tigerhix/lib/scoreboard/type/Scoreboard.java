@@ -19,6 +19,11 @@ public interface Scoreboard {
      */
     void deactivate();
 
+    /**
+     * Update the title and entries of the scoreboard. Called by the {@link me.tigerhix.lib.scoreboard.ScoreboardScheduler} on the update interval.
+     */
+    void update();
+
     /**
      * Determine if the scoreboard has been already activated.
      *
@@ -48,7 +53,7 @@ public interface Scoreboard {
     long getUpdateInterval();
 
     /**
-     * Set the update interval.
+     * Set the update interval. Can be changed while the scoreboard is activated.
      *
      * @param updateInterval update interval
      * @return this
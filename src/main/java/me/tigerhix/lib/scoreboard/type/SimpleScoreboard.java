@@ -1,84 +1,149 @@
 package me.tigerhix.lib.scoreboard.type;
 
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multiset;
 import com.google.common.collect.Table;
 import me.tigerhix.lib.scoreboard.ScoreboardLib;
+import me.tigerhix.lib.scoreboard.ScoreboardScheduler;
+import me.tigerhix.lib.scoreboard.common.EntryBuilder;
+import me.tigerhix.lib.scoreboard.common.SplitCache;
 import me.tigerhix.lib.scoreboard.common.Strings;
-import org.bukkit.Bukkit;
+import me.tigerhix.lib.scoreboard.metrics.MeteredRenderer;
+import me.tigerhix.lib.scoreboard.metrics.ScoreboardMetrics;
+import me.tigerhix.lib.scoreboard.render.BukkitRenderer;
+import me.tigerhix.lib.scoreboard.render.ScoreboardRenderer;
+import me.tigerhix.lib.scoreboard.render.SwappableRenderer;
 import org.bukkit.ChatColor;
-import org.bukkit.Location;
-import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scoreboard.DisplaySlot;
 import org.bukkit.scoreboard.Objective;
-import org.bukkit.scoreboard.Team;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The default scoreboard. All of its state is confined to the main thread, apart from content handed over by
+ * {@link #publish(String, List)} or an {@link AsyncScoreboardHandler}, which is passed through a single atomic reference.
+ *
+ * @author TigerHix
+ */
 public class SimpleScoreboard implements Scoreboard {
 
     private static final String TEAM_PREFIX = "Scoreboard_";
-    private static int TEAM_COUNTER = 0;
 
-    private final org.bukkit.scoreboard.Scoreboard scoreboard;
-    private final Objective objective;
+    private final ScoreboardRenderer renderer;
+    private final ScoreboardRenderer output;
+    private final ScoreboardMetrics metrics = new ScoreboardMetrics(ScoreboardLib.getMetrics());
 
     protected Player holder;
     protected long updateInterval = 10L;
+    protected long maxUpdateInterval;
+    protected int idleUpdates;
+    protected int swapThreshold;
+    protected boolean stableScores;
 
     private boolean activated;
+    private long currentInterval = updateInterval;
+    private int unchangedUpdates;
     private ScoreboardHandler handler;
-    private Map<FakePlayer, Integer> entryCache = new ConcurrentHashMap<>();
-    private Table<String, Integer, FakePlayer> playerCache = HashBasedTable.create();
-    private Table<Team, String, String> teamCache = HashBasedTable.create();
-    private BukkitRunnable updateTask;
+    private Map<FakePlayer, Integer> entryCache = new HashMap<>();
+    private Map<String, FakePlayer> playerCache = new HashMap<>();
+    private Table<String, String, FakeTeam> teamCache = HashBasedTable.create();
+    private Multiset<FakeTeam> teamUsage = HashMultiset.create();
+    private final Deque<String> freeTeamNames = new ArrayDeque<>();
+    private int teamCounter;
+    private final AtomicLong requestedFrame = new AtomicLong();
+    private final AtomicReference<Frame> pendingFrame = new AtomicReference<>();
+    private final AtomicBoolean computing = new AtomicBoolean();
+    private long appliedFrame;
+    private String lastTitle;
+    private Lines lastLines = new Lines();
+    private Lines nextLines = new Lines();
+    private final Set<String> usedNames = new HashSet<>();
+    private final Set<FakePlayer> current = new HashSet<>();
+    private final Map<FakePlayer, FakeTeam> heldTeams = new LinkedHashMap<>();
+    private final EntryBuilder entryBuilder = new EntryBuilder();
+    private final Map<LineProvider, ProvidedLine> providedLines = new IdentityHashMap<>();
+    private final Set<LineProvider> invalidatedProviders = Collections.newSetFromMap(new ConcurrentHashMap<LineProvider, Boolean>());
+    private final List<Entry> resolvedEntries = new ArrayList<>();
+    private int providedCount;
+    private long resolvePass;
+    private final ListMultimap<String, Integer> previousScores = ArrayListMultimap.create();
+    private final Multiset<String> matchedNames = HashMultiset.create();
 
     public SimpleScoreboard(Player holder) {
+        this(holder, new BukkitRenderer(holder));
+    }
+
+    public SimpleScoreboard(Player holder, ScoreboardRenderer renderer) {
         this.holder = holder;
-        // Initiate the Bukkit scoreboard
-        scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
-        scoreboard.registerNewObjective("board", "dummy").setDisplaySlot(DisplaySlot.SIDEBAR);
-        objective = scoreboard.getObjective(DisplaySlot.SIDEBAR);
+        this.renderer = renderer;
+        // Count every operation sent to the renderer
+        this.output = new MeteredRenderer(renderer, metrics);
     }
 
     @Override
     public void activate() {
         if (activated) return;
-        if (handler == null) throw new IllegalArgumentException("Scoreboard handler not set");
+        if (handler == null && requestedFrame.get() == 0) throw new IllegalArgumentException("Scoreboard handler not set");
+        // Replaces another scoreboard of the holder before showing this one
+        ScoreboardLib.getRegistry().register(this);
         activated = true;
-        // Set to the custom scoreboard
-        holder.setScoreboard(scoreboard);
-        // And start updating on a desired interval
-        updateTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                update();
-            }
-        };
-        updateTask.runTaskTimer(ScoreboardLib.getPluginInstance(), 0, updateInterval);
+        // Show the custom scoreboard
+        output.show();
+        // Show the content right away, then leave the updating to the shared scheduler
+        update();
+        if (activated) ScoreboardLib.getScheduler().schedule(this);
     }
 
     @Override
     public void deactivate() {
         if (!activated) return;
         activated = false;
-        // Set to the main scoreboard
-        if (holder.isOnline()) {
-            synchronized (this) {
-                holder.setScoreboard((Bukkit.getScoreboardManager().getMainScoreboard()));
-            }
+        // Hide the custom scoreboard
+        output.hide();
+        // Stop updating
+        ScoreboardLib.getScheduler().unschedule(this);
+        ScoreboardLib.getRegistry().unregister(this);
+        pendingFrame.set(null);
+        // Remove the entries and unregister teams that are created for this scoreboard
+        for (FakePlayer fakePlayer : entryCache.keySet()) {
+            output.resetScore(fakePlayer.getName());
         }
-        // Unregister teams that are created for this scoreboard
-        for (Team team : teamCache.rowKeySet()) {
-            team.unregister();
+        for (FakeTeam team : teamCache.values()) {
+            output.removeTeam(team.getName());
         }
-        // Stop updating
-        updateTask.cancel();
+        entryCache.clear();
+        playerCache.clear();
+        teamCache.clear();
+        teamUsage.clear();
+        freeTeamNames.clear();
+        teamCounter = 0;
+        lastTitle = null;
+        lastLines.clear();
+        providedLines.clear();
+        providedCount = 0;
+        heldTeams.clear();
+        metrics.setCacheSizes(0, 0);
     }
 
     @Override
@@ -99,226 +164,767 @@ public class SimpleScoreboard implements Scoreboard {
 
     @Override
     public long getUpdateInterval() {
-        return updateInterval;
+        return currentInterval;
     }
 
     @Override
     public SimpleScoreboard setUpdateInterval(long updateInterval) {
-        if (activated) throw new IllegalStateException("Scoreboard is already activated");
         this.updateInterval = updateInterval;
+        setCurrentInterval(updateInterval);
+        return this;
+    }
+
+    /**
+     * Let the update interval adapt to the content: after the given amount of updates without any change, the interval
+     * doubles up to the maximum, and it returns to the update interval as soon as the content changes. Pass a maximum of
+     * 0 to disable.
+     *
+     * @param maxUpdateInterval maximum update interval
+     * @param idleUpdates       unchanged updates before backing off
+     * @return this
+     */
+    public SimpleScoreboard setAdaptiveInterval(long maxUpdateInterval, int idleUpdates) {
+        if (maxUpdateInterval > 0 && idleUpdates < 1) throw new IllegalArgumentException("Idle updates must be at least 1");
+        this.maxUpdateInterval = maxUpdateInterval;
+        this.idleUpdates = idleUpdates;
+        unchangedUpdates = 0;
+        setCurrentInterval(updateInterval);
         return this;
     }
 
+    /**
+     * Build the sidebar out of sight and display it in one step whenever at least the given amount of lines changed, instead
+     * of updating the lines one by one. Only takes effect if the renderer is a {@link SwappableRenderer}. Pass 0 to always
+     * update incrementally (default = 0).
+     * <p>
+     * Both sidebars share the teams displaying long lines. Lines already displayed therefore change their team only right
+     * after the new sidebar is displayed, so the old sidebar keeps its text until then.
+     *
+     * @param swapThreshold changed lines
+     * @return this
+     */
+    public SimpleScoreboard setSwapThreshold(int swapThreshold) {
+        if (swapThreshold < 0) throw new IllegalArgumentException("Swap threshold cannot be negative");
+        this.swapThreshold = swapThreshold;
+        return this;
+    }
+
+    /**
+     * Let the scoreboard choose the scores itself, keeping the score of every line that stays and only changing what is
+     * needed to keep the lines in order, so inserting or removing a line does not move every line below it. The positions
+     * of the entries then only decide the order, and the numbers displayed next to the lines no longer match them
+     * (default = false). Not supported by a {@link GroupScoreboard}, whose per-member overrides refer to positions.
+     *
+     * @param stableScores stable scores
+     * @return this
+     */
+    public SimpleScoreboard setStableScores(boolean stableScores) {
+        this.stableScores = stableScores;
+        return this;
+    }
+
+    private void setCurrentInterval(long interval) {
+        boolean shorter = interval < currentInterval;
+        currentInterval = interval;
+        // A shorter interval takes effect right away instead of after the pending update
+        if (activated && shorter) {
+            ScoreboardScheduler scheduler = ScoreboardLib.getScheduler();
+            scheduler.wakeAt(this, scheduler.getCurrentTick() + interval);
+        }
+    }
+
+    private void adapt(boolean changed) {
+        if (maxUpdateInterval <= 0) return;
+        if (changed) {
+            unchangedUpdates = 0;
+            if (currentInterval != updateInterval) setCurrentInterval(updateInterval);
+        } else if (++unchangedUpdates >= idleUpdates) {
+            unchangedUpdates = 0;
+            // Double the interval up to the maximum, without overflowing
+            currentInterval = Math.max(updateInterval, currentInterval > maxUpdateInterval / 2 ? maxUpdateInterval : currentInterval * 2);
+        }
+    }
+
     @Override
     public Player getHolder() {
         return holder;
     }
 
-    @SuppressWarnings("deprecation")
-    private void update() {
-        if (!holder.isOnline()) {
-            deactivate();
-            return;
+    @Override
+    public void update() {
+        // Deactivated by the registry when the holder quits
+        render();
+    }
+
+    /**
+     * Apply the latest published content, then ask the handler for the current title and entries and apply them.
+     */
+    protected void render() {
+        // Apply the latest published or asynchronously computed frame
+        Frame frame = pendingFrame.getAndSet(null);
+        if (frame != null && frame.sequence > appliedFrame) {
+            appliedFrame = frame.sequence;
+            long start = System.nanoTime();
+            boolean changed = apply(frame.title, frame.entries);
+            record(frame.handlerNanos, System.nanoTime() - start);
+            adapt(changed);
         }
+        if (handler instanceof AsyncScoreboardHandler) {
+            // Request the next one
+            computeAsync((AsyncScoreboardHandler) handler);
+        } else if (handler != null) {
+            entryBuilder.reset();
+            long start = System.nanoTime();
+            String title = handler.getTitle(holder);
+            List<Entry> entries = handler.getEntries(holder);
+            long computed = System.nanoTime();
+            boolean changed = apply(title, entries);
+            record(computed - start, System.nanoTime() - computed);
+            adapt(changed);
+        }
+        if (handler instanceof AnimatedScoreboardHandler) {
+            // Wake up exactly when the content changes next
+            ScoreboardScheduler scheduler = ScoreboardLib.getScheduler();
+            scheduler.wakeAt(this, ((AnimatedScoreboardHandler) handler).getNextChangeTick(holder, scheduler.getCurrentTick()));
+        }
+    }
+
+    private void record(long handlerNanos, long applyNanos) {
+        metrics.recordUpdate(handlerNanos, applyNanos);
+        metrics.setCacheSizes(teamCache.size(), playerCache.size());
+    }
+
+    /**
+     * Update this scoreboard on the next tick instead of waiting for its update interval. Can be called from any thread;
+     * several calls within a tick result in a single update. A scoreboard whose content only changes on events can be
+     * given a long update interval, which then only serves as a safety net.
+     */
+    public void invalidate() {
+        ScoreboardLib.getScheduler().invalidate(this);
+    }
+
+    /**
+     * Ask the provider for its lines again on the next tick, regardless of their refresh interval. Can be called from any
+     * thread. A provider that only changes on events can be given a refresh interval of {@link Long#MAX_VALUE}.
+     *
+     * @param provider provider
+     */
+    public void invalidate(LineProvider provider) {
+        invalidatedProviders.add(provider);
+        invalidate();
+    }
+
+    /**
+     * Returns the entry builder owned by this scoreboard. It is reset before each call to a synchronous handler, so the
+     * handler can fill and return it without allocating new entries. Not to be used by asynchronous handlers.
+     *
+     * @return entry builder
+     */
+    public EntryBuilder getEntryBuilder() {
+        return entryBuilder;
+    }
+
+    private void computeAsync(final AsyncScoreboardHandler handler) {
+        // A slow handler is not asked again before its last computation is done
+        if (!computing.compareAndSet(false, true)) return;
+        final long sequence = requestedFrame.incrementAndGet();
+        try {
+            new BukkitRunnable() {
+                @Override
+                public void run() {
+                    try {
+                        long start = System.nanoTime();
+                        String title = handler.getTitle(holder);
+                        List<Entry> entries = handler.getEntries(holder);
+                        offer(new Frame(sequence, title, entries, System.nanoTime() - start));
+                    } finally {
+                        computing.set(false);
+                    }
+                }
+            }.runTaskAsynchronously(ScoreboardLib.getPluginInstance());
+        } catch (RuntimeException ex) {
+            computing.set(false);
+            throw ex;
+        }
+    }
+
+    /**
+     * Hand the scoreboard new content from any thread, without taking a lock. The lines are positioned from top to
+     * bottom like {@link EntryBuilder} does. The latest published content is applied on the next tick, and content
+     * published in between is skipped. A scoreboard fed only by publishing needs no handler.
+     *
+     * @param title title
+     * @param lines lines
+     */
+    public void publish(String title, List<String> lines) {
+        EntryBuilder builder = new EntryBuilder();
+        for (String line : lines) {
+            builder.next(line);
+        }
+        List<Entry> entries = Collections.unmodifiableList(builder.build());
+        offer(new Frame(requestedFrame.incrementAndGet(), title, entries, 0));
+    }
+
+    private void offer(Frame frame) {
+        // Keep only the newest frame, a slower older computation must not overwrite it
+        Frame other;
+        do {
+            other = pendingFrame.get();
+            if (other != null && other.sequence > frame.sequence) return;
+        } while (!pendingFrame.compareAndSet(other, frame));
+        // Apply it on the next tick rather than after the update interval
+        invalidate();
+    }
+
+    private boolean apply(String handlerTitle, List<Entry> passed) {
+        boolean changed = false;
         // Title
-        String handlerTitle = handler.getTitle(holder);
-        String finalTitle = Strings.format(handlerTitle != null ? handlerTitle : ChatColor.BOLD.toString());
-        if (!objective.getDisplayName().equals(finalTitle)) objective.setDisplayName(Strings.format(finalTitle));
+        if (handlerTitle == null) handlerTitle = ChatColor.BOLD.toString();
+        // Only formatted when the handler returned a different title
+        if (!handlerTitle.equals(lastTitle)) {
+            output.setTitle(Strings.format(handlerTitle));
+            lastTitle = handlerTitle;
+            changed = true;
+        }
         // Entries
-        List<Entry> passed = handler.getEntries(holder);
-        Map<String, Integer> appeared = new HashMap<>();
-        Map<FakePlayer, Integer> current = new HashMap<>();
-        if (passed == null) return;
-        for (Entry entry : passed) {
+        if (passed == null) return changed;
+        passed = resolve(passed);
+        // Nothing to do if the handler returned the same lines as last time
+        if (isUnchanged(passed)) return changed;
+        SwappableRenderer swap = null;
+        if (swapThreshold > 0 && renderer instanceof SwappableRenderer && countChanged(passed) >= swapThreshold) {
+            // Write every line to the hidden sidebar
+            swap = (SwappableRenderer) renderer;
+            swap.beginSwap();
+        }
+        int[] scores = stableScores ? assignScores(passed) : null;
+        Lines last = lastLines;
+        Lines next = nextLines;
+        next.prepare(passed.size());
+        usedNames.clear();
+        current.clear();
+        Iterator<Entry> entries = passed.iterator();
+        for (int index = 0; index < next.size; index++) {
             // Handle the entry
+            Entry entry = entries.next();
             String key = entry.getName();
-            Integer score = entry.getPosition();
+            int score = scores != null ? scores[index] : entry.getPosition();
+            next.names[index] = key;
+            next.positions[index] = entry.getPosition();
+            next.scores[index] = score;
             if (key.length() > 48) key = key.substring(0, 47);
-            String appearance;
-            if (key.length() > 16) {
-                appearance = key.substring(16);
-            } else {
-                appearance = key;
+            // Shift the line until its entry name is not taken by an earlier line
+            int offset = -1;
+            SplitCache.Split split = null;
+            String name;
+            do {
+                offset++;
+                if (key.length() > 16) {
+                    split = ScoreboardLib.getSplitCache().split(key, offset);
+                    name = split.getName();
+                } else {
+                    name = offset == 0 ? key : key + Strings.repeat(" ", offset);
+                }
+            } while (!usedNames.add(name));
+            next.offsets[index] = offset;
+            // Only touch the lines that differ from the last applied ones
+            boolean sameLine = index < last.size && entry.getName().equals(last.names[index]) && offset == last.offsets[index];
+            FakePlayer faker = sameLine ? last.fakers[index] : getFakePlayer(name, split, swap != null);
+            Integer shown = entryCache.get(faker);
+            if (swap != null || shown == null || shown != score) {
+                // Set score
+                output.setScore(faker.getName(), score);
+                entryCache.put(faker, score);
             }
-            if (!appeared.containsKey(appearance)) appeared.put(appearance, -1);
-            appeared.put(appearance, appeared.get(appearance) + 1);
-            // Get fake player
-            FakePlayer faker = getFakePlayer(key, appeared.get(appearance));
-            // Set score
-            objective.getScore(faker).setScore(score);
             // Update references
-            entryCache.put(faker, score);
-            current.put(faker, score);
+            next.fakers[index] = faker;
+            current.add(faker);
+        }
+        // Display the new sidebar before the old lines lose their teams
+        if (swap != null) {
+            swap.commitSwap();
+            // Move the lines that were displayed on the old sidebar to their new teams
+            for (Map.Entry<FakePlayer, FakeTeam> held : heldTeams.entrySet()) {
+                moveTeam(held.getKey(), held.getValue());
+            }
+            heldTeams.clear();
         }
-        appeared.clear();
         // Remove duplicated or non-existent entries
-        for (FakePlayer fakePlayer : entryCache.keySet()) {
-            if (!current.containsKey(fakePlayer)) {
-                entryCache.remove(fakePlayer);
-                scoreboard.resetScores(fakePlayer.getName());
+        Iterator<FakePlayer> iterator = entryCache.keySet().iterator();
+        while (iterator.hasNext()) {
+            FakePlayer fakePlayer = iterator.next();
+            if (!current.contains(fakePlayer)) {
+                iterator.remove();
+                output.resetScore(fakePlayer.getName());
+                release(fakePlayer);
+            }
+        }
+        // Unregister teams no longer used by any line
+        if (teamCache.size() > teamUsage.elementSet().size()) {
+            for (FakeTeam team : new ArrayList<>(teamCache.values())) {
+                if (teamUsage.contains(team)) continue;
+                teamCache.remove(team.getPrefix(), team.getSuffix());
+                output.removeTeam(team.getName());
+                freeTeamNames.push(team.getName());
             }
         }
+        // Swap the buffers, the old lines are overwritten next time
+        lastLines = next;
+        nextLines = last;
+        return true;
     }
 
-    @SuppressWarnings("deprecation")
-    private FakePlayer getFakePlayer(String text, int offset) {
-        Team team = null;
-        String name;
-        // If the text has a length less than 16, teams need not to be be created
-        if (text.length() <= 16) {
-            name = text + Strings.repeat(" ", offset);
-        } else {
-            String prefix;
-            String suffix = "";
-            offset++;
-            // Otherwise, iterate through the string and cut off prefix and suffix
-            prefix = text.substring(0, 16 - offset);
-            name = text.substring(16 - offset);
-            if (name.length() > 16) name = name.substring(0, 16);
-            if (text.length() > 32) suffix = text.substring(32 - offset);
-            // If teams already exist, use them
-            for (Team other : teamCache.rowKeySet()) {
-                if (other.getPrefix().equals(prefix) && other.getSuffix().equals(suffix)) {
-                    team = other;
+    private List<Entry> resolve(List<Entry> passed) {
+        int providers = 0;
+        for (Entry entry : passed) {
+            if (entry.getProvider() != null) providers++;
+        }
+        if (providers == 0) {
+            if (!providedLines.isEmpty()) {
+                providedLines.clear();
+                providedCount = 0;
+            }
+            return passed;
+        }
+        // Replace provided entries by their text, asking only the providers that are due
+        ScoreboardScheduler scheduler = ScoreboardLib.getScheduler();
+        long tick = scheduler.getCurrentTick();
+        long pass = ++resolvePass;
+        long nextRefresh = Long.MAX_VALUE;
+        resolvedEntries.clear();
+        for (Entry entry : passed) {
+            LineProvider provider = entry.getProvider();
+            if (provider == null) {
+                resolvedEntries.add(entry);
+                continue;
+            }
+            ProvidedLine first = providedLines.get(provider);
+            if (first == null) {
+                first = new ProvidedLine();
+                providedLines.put(provider, first);
+                providedCount++;
+            }
+            if (first.usedAt != pass) first.invalidated = !invalidatedProviders.isEmpty() && invalidatedProviders.remove(provider);
+            // A provider on several lines keeps a separate line for each of them, in order
+            ProvidedLine line = first;
+            while (line.usedAt == pass) {
+                if (line.next == null) {
+                    line.next = new ProvidedLine();
+                    providedCount++;
+                }
+                line = line.next;
+            }
+            if (first.invalidated || line.refreshedAt == Long.MIN_VALUE || tick - line.refreshedAt >= entry.getRefreshInterval()) {
+                String text = provider.getLine(holder);
+                text = text == null ? "" : Strings.format(text);
+                if (text.length() > 48) text = text.substring(0, 47);
+                line.entry.setName(text);
+                line.refreshedAt = tick;
+            }
+            line.entry.setPosition(entry.getPosition());
+            line.usedAt = pass;
+            resolvedEntries.add(line.entry);
+            long refresh = line.refreshedAt + entry.getRefreshInterval();
+            // A refresh interval of Long.MAX_VALUE overflows, such a line is only refreshed when invalidated
+            if (refresh > line.refreshedAt) nextRefresh = Math.min(nextRefresh, refresh);
+        }
+        // Forget providers and repeated lines that are no longer part of the entries
+        if (providedCount > providers) {
+            Iterator<ProvidedLine> iterator = providedLines.values().iterator();
+            while (iterator.hasNext()) {
+                ProvidedLine line = iterator.next();
+                if (line.usedAt != pass) {
+                    iterator.remove();
+                    for (; line != null; line = line.next) providedCount--;
+                    continue;
                 }
+                while (line.next != null && line.next.usedAt == pass) line = line.next;
+                for (ProvidedLine unused = line.next; unused != null; unused = unused.next) providedCount--;
+                line.next = null;
+            }
+        }
+        if (!invalidatedProviders.isEmpty()) {
+            Iterator<LineProvider> iterator = invalidatedProviders.iterator();
+            while (iterator.hasNext()) {
+                if (!providedLines.containsKey(iterator.next())) iterator.remove();
+            }
+        }
+        // Wake up exactly when the next line is due
+        scheduler.wakeAt(this, nextRefresh);
+        return resolvedEntries;
+    }
+
+    private int[] assignScores(List<Entry> passed) {
+        int size = passed.size();
+        // The lines in display order, from the highest position down
+        Integer[] order = new Integer[size];
+        for (int index = 0; index < size; index++) {
+            order[index] = index;
+        }
+        final Entry[] entries = passed.toArray(new Entry[size]);
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer first, Integer second) {
+                return Integer.compare(entries[second].getPosition(), entries[first].getPosition());
             }
+        });
+        // Match every line to the score the same text had last time, duplicates in order
+        Lines last = lastLines;
+        previousScores.clear();
+        matchedNames.clear();
+        for (int index : displayOrder(last)) {
+            previousScores.put(last.names[index], last.scores[index]);
+        }
+        int[] previous = new int[size];
+        boolean[] matched = new boolean[size];
+        for (int line = 0; line < size; line++) {
+            String name = entries[order[line]].getName();
+            List<Integer> candidates = previousScores.get(name);
+            int occurrence = matchedNames.add(name, 1);
+            if (occurrence < candidates.size()) {
+                previous[line] = candidates.get(occurrence);
+                matched[line] = true;
+            }
+        }
+        // Keep the longest run of matched lines whose scores are still in order and leave room for the lines in between
+        int[] length = new int[size];
+        int[] before = new int[size];
+        int best = -1;
+        for (int line = 0; line < size; line++) {
+            before[line] = -1;
+            if (!matched[line]) continue;
+            length[line] = 1;
+            for (int other = 0; other < line; other++) {
+                if (matched[other] && previous[other] - previous[line] >= line - other && length[other] + 1 > length[line]) {
+                    length[line] = length[other] + 1;
+                    before[line] = other;
+                }
+            }
+            if (best < 0 || length[line] > length[best]) best = line;
+        }
+        boolean[] kept = new boolean[size];
+        for (int line = best; line >= 0; line = before[line]) {
+            kept[line] = true;
+        }
+        // Fit the other lines in between, moving the smaller side when there is no room
+        int[] assigned = new int[size];
+        int shift = 0;
+        int line = 0;
+        while (line < size) {
+            if (kept[line]) {
+                assigned[line] = previous[line] - shift;
+                line++;
+                continue;
+            }
+            int start = line;
+            while (line < size && !kept[line]) line++;
+            int count = line - start;
+            if (start == 0) {
+                int base = line < size ? previous[line] - shift : 0;
+                for (int i = 0; i < count; i++) {
+                    assigned[start + i] = base + count - i;
+                }
+                continue;
+            }
+            int high = assigned[start - 1];
+            if (line < size) {
+                int missing = count - (high - (previous[line] - shift) - 1);
+                if (missing > 0) {
+                    int keptBelow = 0;
+                    for (int other = line; other < size; other++) {
+                        if (kept[other]) keptBelow++;
+                    }
+                    if (start <= keptBelow) {
+                        for (int other = 0; other < start; other++) {
+                            assigned[other] += missing;
+                        }
+                        high += missing;
+                    } else {
+                        shift += missing;
+                    }
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                assigned[start + i] = high - 1 - i;
+            }
+        }
+        int[] scores = new int[size];
+        for (int index = 0; index < size; index++) {
+            scores[order[index]] = assigned[index];
+        }
+        return scores;
+    }
+
+    private static List<Integer> displayOrder(final Lines lines) {
+        List<Integer> order = new ArrayList<>(lines.size);
+        for (int index = 0; index < lines.size; index++) {
+            order.add(index);
+        }
+        Collections.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer first, Integer second) {
+                return Integer.compare(lines.scores[second], lines.scores[first]);
+            }
+        });
+        return order;
+    }
+
+    private int countChanged(List<Entry> passed) {
+        Lines last = lastLines;
+        int changed = Math.abs(passed.size() - last.size);
+        Iterator<Entry> entries = passed.iterator();
+        for (int index = 0; index < Math.min(passed.size(), last.size); index++) {
+            Entry entry = entries.next();
+            if (entry.getPosition() != last.positions[index] || !entry.getName().equals(last.names[index])) changed++;
+        }
+        return changed;
+    }
+
+    private boolean isUnchanged(List<Entry> passed) {
+        Lines last = lastLines;
+        if (passed.size() != last.size) return false;
+        Iterator<Entry> entries = passed.iterator();
+        for (int index = 0; index < last.size; index++) {
+            Entry entry = entries.next();
+            if (entry.getPosition() != last.positions[index] || !entry.getName().equals(last.names[index])) return false;
+        }
+        return true;
+    }
+
+    private FakePlayer getFakePlayer(String name, SplitCache.Split split, boolean hold) {
+        FakeTeam team = null;
+        // If the text has a length less than 16, teams need not to be be created
+        if (split != null) {
+            // Otherwise, display the prefix and suffix through a team
+            String prefix = split.getPrefix();
+            String suffix = split.getSuffix();
+            // If teams already exist, use them
+            team = teamCache.get(prefix, suffix);
             // Otherwise create them
             if (team == null) {
-                team = scoreboard.registerNewTeam(TEAM_PREFIX + TEAM_COUNTER++);
-                team.setPrefix(prefix);
-                team.setSuffix(suffix);
-                teamCache.put(team, prefix, suffix);
+                team = new FakeTeam(nextTeamName(), prefix, suffix);
+                output.createTeam(team.getName(), prefix, suffix);
+                teamCache.put(prefix, suffix, team);
             }
         }
         FakePlayer faker;
-        if (!playerCache.contains(name, offset)) {
-            faker = new FakePlayer(name, team, offset);
-            playerCache.put(name, offset, faker);
+        if (!playerCache.containsKey(name)) {
+            faker = new FakePlayer(name, team);
+            playerCache.put(name, faker);
             if (faker.getTeam() != null) {
-                faker.getTeam().addPlayer(faker);
+                output.addTeamEntry(faker.getTeam().getName(), name);
+                teamUsage.add(faker.getTeam());
             }
         } else {
-            faker = playerCache.get(name, offset);
-            if (team != null && faker.getTeam() != null) {
-                faker.getTeam().removePlayer(faker);
-            }
-            faker.setTeam(team);
-            if (faker.getTeam() != null) {
-                faker.getTeam().addPlayer(faker);
+            faker = playerCache.get(name);
+            if (faker.getTeam() != team) {
+                FakeTeam previous = faker.getTeam();
+                if (previous != null) teamUsage.remove(previous);
+                faker.setTeam(team);
+                if (team != null) teamUsage.add(team);
+                // The fake player is displayed, keep its team until the new sidebar is displayed
+                if (hold) {
+                    if (!heldTeams.containsKey(faker)) heldTeams.put(faker, previous);
+                } else {
+                    moveTeam(faker, previous);
+                }
             }
         }
         return faker;
     }
 
+    private void moveTeam(FakePlayer faker, FakeTeam previous) {
+        if (previous == faker.getTeam()) return;
+        if (previous != null) output.removeTeamEntry(previous.getName(), faker.getName());
+        if (faker.getTeam() != null) output.addTeamEntry(faker.getTeam().getName(), faker.getName());
+    }
+
+    private String nextTeamName() {
+        // Names of removed teams are reused, so they stay within 16 characters however long the scoreboard lives
+        String name = freeTeamNames.poll();
+        return name != null ? name : TEAM_PREFIX + teamCounter++;
+    }
+
+    private void release(FakePlayer faker) {
+        // Forget the fake player once no line displays it, the team is unregistered later if nothing else uses it
+        playerCache.remove(faker.getName());
+        if (faker.getTeam() != null) {
+            output.removeTeamEntry(faker.getTeam().getName(), faker.getName());
+            teamUsage.remove(faker.getTeam());
+            faker.setTeam(null);
+        }
+    }
+
+    /**
+     * Returns the amount of teams currently registered by this scoreboard to display long entries.
+     *
+     * @return team count
+     */
+    public int getTeamCount() {
+        return teamCache.size();
+    }
+
+    /**
+     * Returns the amount of fake players currently cached by this scoreboard.
+     *
+     * @return fake player count
+     */
+    public int getFakePlayerCount() {
+        return playerCache.size();
+    }
+
+    /**
+     * Returns the update counters and latencies of this scoreboard.
+     *
+     * @return metrics
+     */
+    public ScoreboardMetrics getMetrics() {
+        return metrics;
+    }
+
+    public ScoreboardRenderer getRenderer() {
+        return renderer;
+    }
+
+    /**
+     * Returns the objective of the Bukkit scoreboard, or null if this scoreboard is not rendered through Bukkit.
+     *
+     * @return objective
+     */
     public Objective getObjective() {
-        return objective;
+        return renderer instanceof BukkitRenderer ? ((BukkitRenderer) renderer).getObjective() : null;
     }
 
+    /**
+     * Returns the Bukkit scoreboard, or null if this scoreboard is not rendered through Bukkit.
+     *
+     * @return scoreboard
+     */
     public org.bukkit.scoreboard.Scoreboard getScoreboard() {
-        return scoreboard;
+        return renderer instanceof BukkitRenderer ? ((BukkitRenderer) renderer).getScoreboard() : null;
     }
 
-    private static class FakePlayer implements OfflinePlayer {
+    private static class Frame {
 
-        private final String name;
+        private final long sequence;
+        private final String title;
+        private final List<Entry> entries;
+        private final long handlerNanos;
 
-        private Team team;
-        private int offset;
-
-        FakePlayer(String name, Team team, int offset) {
-            this.name = name;
-            this.team = team;
-            this.offset = offset;
+        Frame(long sequence, String title, List<Entry> entries, long handlerNanos) {
+            this.sequence = sequence;
+            this.title = title;
+            this.entries = entries;
+            this.handlerNanos = handlerNanos;
         }
 
-        public Team getTeam() {
-            return team;
-        }
+    }
 
-        public void setTeam(Team team) {
-            this.team = team;
-        }
+    private static class ProvidedLine {
+
+        private final Entry entry = new Entry("", 0, false);
+
+        private long refreshedAt = Long.MIN_VALUE;
+        private long usedAt;
+        private boolean invalidated;
+        private ProvidedLine next;
+
+    }
 
-        public int getOffset() {
-            return offset;
+    /**
+     * The lines of a frame, kept in arrays that are reused between updates.
+     */
+    private static class Lines {
+
+        private String[] names = new String[16];
+        private int[] positions = new int[16];
+        private int[] scores = new int[16];
+        private int[] offsets = new int[16];
+        private FakePlayer[] fakers = new FakePlayer[16];
+        private int size;
+
+        void prepare(int size) {
+            if (size > names.length) {
+                int capacity = Math.max(size, names.length * 2);
+                names = new String[capacity];
+                positions = new int[capacity];
+                scores = new int[capacity];
+                offsets = new int[capacity];
+                fakers = new FakePlayer[capacity];
+            }
+            this.size = size;
         }
 
-        public String getFullName() {
-            if (team == null) return name;
-            if (team.getSuffix() == null) return team.getPrefix() + name;
-            return team.getPrefix() + name + team.getSuffix();
+        void clear() {
+            Arrays.fill(names, null);
+            Arrays.fill(fakers, null);
+            size = 0;
         }
 
-        @Override
-        public boolean isOnline() {
-            return true;
+    }
+
+    private static class FakeTeam {
+
+        private final String name;
+        private final String prefix;
+        private final String suffix;
+
+        FakeTeam(String name, String prefix, String suffix) {
+            this.name = name;
+            this.prefix = prefix;
+            this.suffix = suffix;
         }
 
-        @Override
         public String getName() {
             return name;
         }
 
-        @Override
-        public UUID getUniqueId() {
-            return UUID.randomUUID();
+        public String getPrefix() {
+            return prefix;
         }
 
-        @Override
-        public boolean isBanned() {
-            return false;
+        public String getSuffix() {
+            return suffix;
         }
 
         @Override
-        public void setBanned(boolean banned) {
-        }
-
-        @Override
-        public boolean isWhitelisted() {
-            return false;
+        public String toString() {
+            return "FakeTeam{" +
+                    "name='" + name + '\'' +
+                    ", prefix='" + prefix + '\'' +
+                    ", suffix='" + suffix + '\'' +
+                    '}';
         }
 
-        @Override
-        public void setWhitelisted(boolean whitelisted) {
-        }
+    }
 
-        @Override
-        public Player getPlayer() {
-            return null;
-        }
+    private static class FakePlayer {
 
-        @Override
-        public long getFirstPlayed() {
-            return 0;
-        }
+        private final String name;
 
-        @Override
-        public long getLastPlayed() {
-            return 0;
-        }
+        private FakeTeam team;
 
-        @Override
-        public boolean hasPlayedBefore() {
-            return false;
+        FakePlayer(String name, FakeTeam team) {
+            this.name = name;
+            this.team = team;
         }
 
-        @Override
-        public Location getBedSpawnLocation() {
-            return null;
+        public FakeTeam getTeam() {
+            return team;
         }
 
-        @Override
-        public Map<String, Object> serialize() {
-            return null;
+        public void setTeam(FakeTeam team) {
+            this.team = team;
         }
 
-        @Override
-        public boolean isOp() {
-            return false;
+        public String getName() {
+            return name;
         }
 
-        @Override
-        public void setOp(boolean op) {
+        public String getFullName() {
+            if (team == null) return name;
+            if (team.getSuffix() == null) return team.getPrefix() + name;
+            return team.getPrefix() + name + team.getSuffix();
         }
 
         @Override
@@ -331,4 +937,4 @@ public class SimpleScoreboard implements Scoreboard {
 
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package me.tigerhix.lib.scoreboard;
+
+import me.tigerhix.lib.scoreboard.common.EntryBuilder;
+import me.tigerhix.lib.scoreboard.render.RecordingRenderer;
+import me.tigerhix.lib.scoreboard.type.Entry;
+import me.tigerhix.lib.scoreboard.type.LineProvider;
+import me.tigerhix.lib.scoreboard.type.ScoreboardHandler;
+import me.tigerhix.lib.scoreboard.type.SimpleScoreboard;
+import org.bukkit.entity.Player;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the wakeups of a scoreboard that is only updated when invalidated.
+ *
+ * @author TigerHix
+ */
+public class ScoreboardSchedulerTest {
+
+    private final ScoreboardScheduler scheduler = ScoreboardLib.getScheduler();
+
+    private SimpleScoreboard scoreboard;
+    private int updates;
+    private int refreshes;
+
+    @Before
+    public void setUp() {
+        scheduler.setManualTicking(true);
+        final LineProvider provider = new LineProvider() {
+            @Override
+            public String getLine(Player player) {
+                return "Refreshed " + ++refreshes;
+            }
+        };
+        scoreboard = new SimpleScoreboard(player(), new RecordingRenderer());
+        scoreboard.setHandler(new ScoreboardHandler() {
+            @Override
+            public String getTitle(Player player) {
+                updates++;
+                return "Title";
+            }
+
+            @Override
+            public List<Entry> getEntries(Player player) {
+                return new EntryBuilder().next("Static").next(provider, 5).build();
+            }
+        });
+        scoreboard.setUpdateInterval(Long.MAX_VALUE);
+    }
+
+    @After
+    public void tearDown() {
+        scoreboard.deactivate();
+        scheduler.setManualTicking(false);
+    }
+
+    @Test
+    public void providerRefreshedWithoutInterval() {
+        scoreboard.activate();
+        refreshes = 0;
+        advance(20);
+        assertEquals(4, refreshes);
+    }
+
+    @Test
+    public void invalidatedWithoutInterval() {
+        scoreboard.activate();
+        advance(3);
+        updates = 0;
+        scoreboard.invalidate();
+        advance(1);
+        assertEquals(1, updates);
+        // The provider keeps its own interval after the invalidation
+        refreshes = 0;
+        advance(10);
+        assertEquals(2, refreshes);
+    }
+
+    @Test
+    public void publishedWithoutInterval() {
+        RecordingRenderer renderer = new RecordingRenderer();
+        SimpleScoreboard published = new SimpleScoreboard(player(), renderer);
+        published.setUpdateInterval(Long.MAX_VALUE);
+        published.publish("First", Arrays.asList("One"));
+        published.activate();
+        try {
+            advance(3);
+            published.publish("Second", Arrays.asList("Two", "Three"));
+            advance(1);
+            assertEquals("Second", renderer.getTitle());
+            assertEquals(2, renderer.getLines().size());
+        } finally {
+            published.deactivate();
+        }
+    }
+
+    private void advance(int ticks) {
+        for (int tick = 0; tick < ticks; tick++) {
+            scheduler.advance();
+        }
+    }
+
+    private static Player player() {
+        final UUID id = UUID.randomUUID();
+        return (Player) Proxy.newProxyInstance(ScoreboardSchedulerTest.class.getClassLoader(), new Class<?>[]{Player.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                switch (method.getName()) {
+                    case "isOnline":
+                        return Boolean.TRUE;
+                    case "getUniqueId":
+                        return id;
+                    case "getName":
+                        return "Steve";
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        return null;
+                }
+            }
+        });
+    }
+
+}
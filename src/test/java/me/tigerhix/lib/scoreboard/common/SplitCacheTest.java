@@ -0,0 +1,108 @@
+package me.tigerhix.lib.scoreboard.common;
+
+import org.bukkit.ChatColor;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks how long lines are split into team prefix, entry name and suffix.
+ *
+ * @author TigerHix
+ */
+public class SplitCacheTest {
+
+    private final SplitCache cache = new SplitCache(64);
+
+    @Test
+    public void colourCodeNotCutFromPrefix() {
+        // The colour character is the last one the prefix could take
+        String text = "aaaaaaaaaaaaaa" + ChatColor.AQUA + "name and suffix";
+        SplitCache.Split split = cache.split(text, 0);
+        assertEquals("aaaaaaaaaaaaaa", split.getPrefix());
+        assertTrue(split.getName().startsWith(ChatColor.AQUA.toString()));
+        assertJoined(text, split);
+    }
+
+    @Test
+    public void colourCodeNotCutFromName() {
+        // The colour character is the last one the name could take
+        String text = "ppppppppppppppp" + "nnnnnnnnnnnnnnn" + ChatColor.RED + "suffix";
+        SplitCache.Split split = cache.split(text, 0);
+        assertEquals("nnnnnnnnnnnnnnn", split.getName());
+        assertTrue(split.getSuffix().startsWith(ChatColor.RED.toString()));
+        assertJoined(text, split);
+    }
+
+    @Test
+    public void lineOfThirtyTwoCharacters() {
+        String text = "0123456789abcdefghijklmnopqrstuv";
+        assertEquals(32, text.length());
+        assertJoined(text, cache.split(text, 0));
+    }
+
+    @Test
+    public void suffixCapped() {
+        String text = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKL";
+        assertEquals(48, text.length());
+        for (int offset = 0; offset < 20; offset++) {
+            SplitCache.Split split = cache.split(text, offset);
+            assertFits(split);
+            assertTrue("split at offset " + offset + " is a start of the line", text.startsWith(split.getPrefix()));
+        }
+    }
+
+    @Test
+    public void moreThanFifteenDuplicates() {
+        String text = ChatColor.GOLD + "A long line shown on every row of it";
+        Set<String> names = new HashSet<>();
+        for (int offset = 0; offset < 40; offset++) {
+            SplitCache.Split split = cache.split(text, offset);
+            assertFits(split);
+            assertTrue("name at offset " + offset + " is unique", names.add(split.getName()));
+            if (ChatColor.stripColor(split.getName()).isEmpty()) {
+                // Behind an invisible name, the suffix continues in the colour of the prefix
+                assertTrue(split.getSuffix().startsWith(ChatColor.getLastColors(split.getPrefix())));
+            }
+        }
+    }
+
+    @Test
+    public void invisibleNamesDoNotCollide() {
+        Set<String> names = new HashSet<>();
+        for (int index = 0; index < 1024; index++) {
+            assertTrue(names.add(Strings.invisibleLineName(index)));
+            assertTrue(names.add(Strings.invisibleOverrideName(index)));
+        }
+    }
+
+    @Test
+    public void splitsCached() {
+        String text = "A line long enough to need a team";
+        SplitCache.Split split = cache.split(text, 0);
+        assertSame(split, cache.split(text, 0));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    private static void assertJoined(String text, SplitCache.Split split) {
+        assertFits(split);
+        assertEquals(text, split.getPrefix() + split.getName() + split.getSuffix());
+    }
+
+    private static void assertFits(SplitCache.Split split) {
+        assertTrue("prefix of " + split, split.getPrefix().length() <= 16);
+        assertTrue("name of " + split, split.getName().length() <= 16);
+        assertTrue("suffix of " + split, split.getSuffix().length() <= 16);
+        for (String part : new String[]{split.getPrefix(), split.getName(), split.getSuffix()}) {
+            assertFalse("colour code cut in " + split, !part.isEmpty() && part.charAt(part.length() - 1) == ChatColor.COLOR_CHAR);
+        }
+    }
+
+}
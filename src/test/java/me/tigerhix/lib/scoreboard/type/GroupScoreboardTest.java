@@ -0,0 +1,148 @@
+package me.tigerhix.lib.scoreboard.type;
+
+import me.tigerhix.lib.scoreboard.ScoreboardLib;
+import me.tigerhix.lib.scoreboard.common.EntryBuilder;
+import me.tigerhix.lib.scoreboard.render.RecordingRenderer;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the per-member overrides of a group scoreboard are displayed whenever the scoreboard is shown.
+ *
+ * @author TigerHix
+ */
+public class GroupScoreboardTest {
+
+    private static final String OVERRIDE = ChatColor.YELLOW + "Coins: 1234";
+
+    private final Player player = player();
+    private final RecordingRenderer renderer = new RecordingRenderer();
+
+    private GroupScoreboard scoreboard;
+    private String coins = "Coins: ?";
+
+    @Before
+    public void setUp() {
+        ScoreboardLib.getScheduler().setManualTicking(true);
+        scoreboard = new GroupScoreboard();
+        scoreboard.addMember(player, renderer);
+        scoreboard.setGroupHandler(new GroupScoreboardHandler() {
+            @Override
+            public String getTitle() {
+                return "Lobby";
+            }
+
+            @Override
+            public List<Entry> getEntries() {
+                return new EntryBuilder().next("Players: 2").next(coins).next("Map: Castle").build();
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        scoreboard.deactivate();
+        ScoreboardLib.getScheduler().setManualTicking(false);
+    }
+
+    @Test
+    public void overrideShownAfterActivation() {
+        scoreboard.activate();
+        scoreboard.setOverride(player, 2, OVERRIDE);
+        assertEquals(Arrays.asList("Players: 2", OVERRIDE, "Map: Castle"), displayed());
+    }
+
+    @Test
+    public void overrideSetBeforeActivation() {
+        scoreboard.setOverride(player, 2, OVERRIDE);
+        scoreboard.activate();
+        assertEquals(Arrays.asList("Players: 2", OVERRIDE, "Map: Castle"), displayed());
+    }
+
+    @Test
+    public void overrideKeptAfterReactivation() {
+        scoreboard.activate();
+        scoreboard.setOverride(player, 2, OVERRIDE);
+        scoreboard.deactivate();
+        assertEquals(0, renderer.getTeamCount());
+        assertEquals(0, renderer.getLines().size());
+        scoreboard.activate();
+        assertEquals(Arrays.asList("Players: 2", OVERRIDE, "Map: Castle"), displayed());
+    }
+
+    @Test
+    public void overrideRemovedWhileHidden() {
+        scoreboard.activate();
+        scoreboard.setOverride(player, 2, OVERRIDE);
+        scoreboard.deactivate();
+        scoreboard.removeOverride(player, 2);
+        scoreboard.activate();
+        assertEquals(Arrays.asList("Players: 2", "Coins: ?", "Map: Castle"), displayed());
+    }
+
+    @Test
+    public void teamNamesStayShort() {
+        scoreboard.activate();
+        for (int update = 0; update < 120000; update++) {
+            // Every update replaces the team of the shared line and the team of the override
+            coins = ChatColor.GOLD + "Coins in the bank: " + update;
+            scoreboard.removeOverride(player, 1);
+            scoreboard.setOverride(player, 1, ChatColor.AQUA + "Map " + update);
+            scoreboard.update();
+            for (String operation : renderer.getOperations()) {
+                if (operation.startsWith("team ")) assertTrue(operation, operation.split(" ")[1].length() <= 16);
+            }
+            renderer.clearOperations();
+        }
+        assertEquals(2, renderer.getTeamCount());
+        assertEquals(Arrays.asList("Players: 2", coins, ChatColor.AQUA + "Map 119999"), displayed());
+    }
+
+    private List<String> displayed() {
+        List<String> lines = renderer.getLines();
+        for (int index = 0; index < lines.size(); index++) {
+            // Override entries are invisible colour codes behind the text
+            String line = lines.get(index);
+            int end = line.indexOf(ChatColor.RESET.toString());
+            lines.set(index, end < 0 ? line : line.substring(0, end - 2));
+        }
+        return lines;
+    }
+
+    private static Player player() {
+        final UUID id = UUID.randomUUID();
+        return (Player) Proxy.newProxyInstance(GroupScoreboardTest.class.getClassLoader(), new Class<?>[]{Player.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                switch (method.getName()) {
+                    case "isOnline":
+                        return Boolean.TRUE;
+                    case "getUniqueId":
+                        return id;
+                    case "getName":
+                        return "Steve";
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        return null;
+                }
+            }
+        });
+    }
+
+}
@@ -0,0 +1,176 @@
+package me.tigerhix.lib.scoreboard.type;
+
+import me.tigerhix.lib.scoreboard.ScoreboardLib;
+import me.tigerhix.lib.scoreboard.common.EntryBuilder;
+import me.tigerhix.lib.scoreboard.render.RecordingRenderer;
+import org.bukkit.entity.Player;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Counts the score operations sent for single edits of a sidebar, with and without stable scores.
+ *
+ * @author TigerHix
+ */
+public class StableScoresTest {
+
+    private static final List<String> BASE = Arrays.asList("a", "b", "c", "d", "e");
+
+    private final List<SimpleScoreboard> scoreboards = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        ScoreboardLib.getScheduler().setManualTicking(true);
+    }
+
+    @After
+    public void tearDown() {
+        for (SimpleScoreboard scoreboard : scoreboards) {
+            scoreboard.deactivate();
+        }
+        ScoreboardLib.getScheduler().setManualTicking(false);
+    }
+
+    @Test
+    public void insertAtTop() {
+        assertOperations(false, lines("x", "a", "b", "c", "d", "e"), 1, 0);
+        assertOperations(true, lines("x", "a", "b", "c", "d", "e"), 1, 0);
+    }
+
+    @Test
+    public void insertInMiddle() {
+        assertOperations(false, lines("a", "b", "x", "c", "d", "e"), 3, 0);
+        assertOperations(true, lines("a", "b", "x", "c", "d", "e"), 3, 0);
+    }
+
+    @Test
+    public void insertAtBottom() {
+        assertOperations(false, lines("a", "b", "c", "d", "e", "x"), 6, 0);
+        assertOperations(true, lines("a", "b", "c", "d", "e", "x"), 1, 0);
+    }
+
+    @Test
+    public void removeFromTop() {
+        assertOperations(false, lines("b", "c", "d", "e"), 0, 1);
+        assertOperations(true, lines("b", "c", "d", "e"), 0, 1);
+    }
+
+    @Test
+    public void removeFromMiddle() {
+        assertOperations(false, lines("a", "b", "d", "e"), 2, 1);
+        assertOperations(true, lines("a", "b", "d", "e"), 0, 1);
+    }
+
+    @Test
+    public void removeFromBottom() {
+        assertOperations(false, lines("a", "b", "c", "d"), 4, 1);
+        assertOperations(true, lines("a", "b", "c", "d"), 0, 1);
+    }
+
+    @Test
+    public void reorder() {
+        assertOperations(false, lines("a", "d", "c", "b", "e"), 2, 0);
+        assertOperations(true, lines("a", "d", "c", "b", "e"), 2, 0);
+    }
+
+    @Test
+    public void duplicate() {
+        assertOperations(false, lines("a", "b", "b", "c", "d", "e"), 3, 0);
+        assertOperations(true, lines("a", "b", "b", "c", "d", "e"), 3, 0);
+    }
+
+    @Test
+    public void removeDuplicate() {
+        assertOperations(false, lines("a", "b", "b", "c", "d", "e"), lines("a", "b", "c", "d", "e"), 2, 1);
+        assertOperations(true, lines("a", "b", "b", "c", "d", "e"), lines("a", "b", "c", "d", "e"), 0, 1);
+    }
+
+    private void assertOperations(boolean stable, List<String> after, int scores, int resets) {
+        assertOperations(stable, BASE, after, scores, resets);
+    }
+
+    private void assertOperations(boolean stable, List<String> before, List<String> after, int scores, int resets) {
+        final List<String> lines = new ArrayList<>(before);
+        RecordingRenderer renderer = new RecordingRenderer();
+        SimpleScoreboard scoreboard = new SimpleScoreboard(player(), renderer);
+        scoreboards.add(scoreboard);
+        scoreboard.setStableScores(stable);
+        scoreboard.setHandler(new ScoreboardHandler() {
+            @Override
+            public String getTitle(Player player) {
+                return "Title";
+            }
+
+            @Override
+            public List<Entry> getEntries(Player player) {
+                EntryBuilder builder = new EntryBuilder();
+                for (String line : lines) {
+                    builder.next(line);
+                }
+                return builder.build();
+            }
+        });
+        scoreboard.activate();
+        renderer.clearOperations();
+        lines.clear();
+        lines.addAll(after);
+        scoreboard.update();
+        int setScores = 0;
+        int resetScores = 0;
+        for (String operation : renderer.getOperations()) {
+            if (operation.startsWith("score ")) setScores++;
+            if (operation.startsWith("reset ")) resetScores++;
+        }
+        String edit = before + " -> " + after + (stable ? " with stable scores" : "");
+        assertEquals("setScore calls for " + edit, scores, setScores);
+        assertEquals("resetScore calls for " + edit, resets, resetScores);
+        assertEquals("lines shown for " + edit, after, trimmed(renderer.getLines()));
+    }
+
+    private static List<String> trimmed(List<String> lines) {
+        List<String> trimmed = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            trimmed.add(line.trim());
+        }
+        return trimmed;
+    }
+
+    private static List<String> lines(String... lines) {
+        return Arrays.asList(lines);
+    }
+
+    private static Player player() {
+        final UUID id = UUID.randomUUID();
+        return (Player) Proxy.newProxyInstance(StableScoresTest.class.getClassLoader(), new Class<?>[]{Player.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                switch (method.getName()) {
+                    case "isOnline":
+                        return Boolean.TRUE;
+                    case "getUniqueId":
+                        return id;
+                    case "getName":
+                        return "Steve";
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        return null;
+                }
+            }
+        });
+    }
+
+}